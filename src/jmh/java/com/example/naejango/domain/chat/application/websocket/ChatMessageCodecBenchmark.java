@@ -0,0 +1,49 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메세지 버스의 JSON / 바이너리 코덱의 인코딩, 디코딩 처리량을 비교합니다.
+ * 메세지 크기(byte)는 실행 시작 시 출력합니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatMessageCodecBenchmark {
+    @Param({"json", "binary"})
+    public String codecType;
+
+    /* 짧은 메세지, 긴 한글 메세지 */
+    @Param({"안녕하세요", "오늘 거래 가능하신가요? 역 앞에서 6시쯤 뵐 수 있을까요? 물건 상태는 사진 그대로입니다."})
+    public String content;
+
+    private ChatMessageCodec codec;
+    private MessagePublishCommandDto commandDto;
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+        codec = "json".equals(codecType) ? new JsonChatMessageCodec(new ObjectMapper()) : new BinaryChatMessageCodec();
+        commandDto = MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+                .senderId(1_024L).channelId(52_311L).content(content).build();
+        payload = codec.encode(commandDto);
+        System.out.printf("codec=%s content=%d chars payload=%d bytes%n", codecType, content.length(), payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(commandDto);
+    }
+
+    @Benchmark
+    public WebSocketMessageSendDto decode() {
+        return codec.decode(payload);
+    }
+}
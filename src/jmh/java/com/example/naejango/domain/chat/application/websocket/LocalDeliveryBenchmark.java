@@ -0,0 +1,67 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.config.PartitionedExecutor;
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 서버의 구독자에게 메세지가 전달되기까지 서버 안에서 걸리는 시간을 비교합니다.
+ * echo : 발행한 메세지를 Redis 에서 다시 수신하여 디코딩한 뒤 발송 lane 에서 보내는 경로 (이전 방식)
+ * shortCircuit : 발행 후 바로 보내는 경로
+ * Redis 왕복 시간은 포함하지 않으므로, 실제 차이는 결과에 Redis 왕복 시간을 더한 값입니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LocalDeliveryBenchmark {
+    @Param({"json", "binary"})
+    public String codecType;
+
+    private ChatMessageCodec codec;
+    private PartitionedExecutor dispatchExecutor;
+    private MessagePublishCommandDto commandDto;
+    private byte[] frame;
+
+    @Setup
+    public void setup() {
+        codec = "json".equals(codecType) ? new JsonChatMessageCodec(new ObjectMapper()) : new BinaryChatMessageCodec();
+        dispatchExecutor = new PartitionedExecutor("benchmark-lane-", 4, 10_000, 100,
+                new SimpleMeterRegistry(), "benchmark.lane");
+        commandDto = MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+                .senderId(1_024L).channelId(52_311L).content("오늘 거래 가능하신가요?").build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dispatchExecutor.shutdown();
+    }
+
+    @Benchmark
+    public WebSocketMessageSendDto echo() {
+        // 발행
+        frame = ChatBusFrame.wrap(1L, System.currentTimeMillis(), codec.encode(commandDto));
+
+        // 수신
+        WebSocketMessageSendDto sendDto = codec.decode(ChatBusFrame.payloadOf(frame));
+        CompletableFuture<WebSocketMessageSendDto> sent = new CompletableFuture<>();
+        dispatchExecutor.execute(sendDto.getChannelId(), () -> sent.complete(sendDto));
+        return sent.join();
+    }
+
+    @Benchmark
+    public WebSocketMessageSendDto shortCircuit() {
+        // 발행
+        frame = ChatBusFrame.wrap(1L, System.currentTimeMillis(), codec.encode(commandDto));
+
+        // 바로 발송
+        return commandDto.toSendDto();
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.naejango.domain.chat.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SimpleBroker 로 채널에 메세지를 보낼 때 구독자 조회와 발송(clientOutboundChannel 전달)에 걸리는 시간을 비교합니다.
+ * 채널 당 구독자는 500 명이며, channels 는 구독자가 있는 채널 수 입니다.
+ * 기본 SubscriptionRegistry 의 destination 캐시(1024 개) 보다 채널이 많으면 캐시가 계속 교체되는 경우를 재현하기 위해
+ * 메세지마다 다른 채널로 보냅니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BrokerFanOutBenchmark {
+    private static final int SUBSCRIBERS_PER_CHANNEL = 500;
+
+    @Param({"default", "destination"})
+    public String registryType;
+
+    @Param({"1", "2000"})
+    public int channels;
+
+    private SimpleBrokerMessageHandler broker;
+    private Message<?>[] messages;
+    private int next;
+    private long delivered;
+
+    @Setup
+    public void setup() {
+        MessageChannel outbound = (message, timeout) -> {
+            delivered++;
+            return true;
+        };
+        broker = new SimpleBrokerMessageHandler(new ExecutorSubscribableChannel(), outbound,
+                new ExecutorSubscribableChannel(), List.of("/sub"));
+        if ("destination".equals(registryType)) broker.setSubscriptionRegistry(new DestinationSubscriptionRegistry());
+        broker.start();
+
+        // 세션마다 구독 채널을 나누어 총 channels * 500 개의 구독을 만듭니다.
+        int sessions = Math.max(SUBSCRIBERS_PER_CHANNEL, channels);
+        for (int session = 0; session < sessions; session++) {
+            broker.handleMessage(message(SimpMessageType.CONNECT, "session" + session, null, null));
+        }
+        for (int channel = 0; channel < channels; channel++) {
+            for (int subscriber = 0; subscriber < SUBSCRIBERS_PER_CHANNEL; subscriber++) {
+                int session = (channel + subscriber) % sessions;
+                broker.handleMessage(message(SimpMessageType.SUBSCRIBE, "session" + session, "sub" + channel,
+                        "/sub/channel/" + channel));
+            }
+        }
+
+        messages = new Message<?>[channels];
+        for (int channel = 0; channel < channels; channel++) {
+            messages[channel] = message(SimpMessageType.MESSAGE, null, null, "/sub/channel/" + channel);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        broker.stop();
+    }
+
+    @Benchmark
+    public long fanOut() {
+        broker.handleMessage(messages[next]);
+        next = (next + 1) % messages.length;
+        return delivered;
+    }
+
+    private static Message<byte[]> message(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("{\"content\":\"안녕하세요\"}".getBytes(StandardCharsets.UTF_8),
+                accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.naejango.domain.chat.config;
+
+import com.example.naejango.domain.chat.repository.InMemorySubscribeRepository;
+import com.example.naejango.domain.chat.repository.SubscribeRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 SEND 메세지가 WebSocketChannelInterceptor 를 지날 때의 할당량을 비교합니다.
+ * legacy : 메세지마다 헤더를 복사하고(wrap), sessionId 로 유저를 조회하여 인증 객체와 메세지를 새로 만드는 이전 방식
+ * sessionCached : 세션 속성의 인증 객체를 그대로 사용하는 방식
+ * Redis 모드에서는 legacy 에 HGET 왕복이 추가됩니다. 여기서는 InMemorySubscribeRepository 를 사용합니다.
+ * 두 방식 모두 웹소켓 세션이 만드는 SEND 메세지 생성 비용을 포함합니다.
+ * JMH 의 gc 프로파일러(-prof gc)와 함께 실행하여 gc.alloc.rate.norm(B/op) 으로 비교합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InterceptorSendPathBenchmark {
+    private static final byte[] PAYLOAD = "안녕하세요".getBytes(StandardCharsets.UTF_8);
+
+    private SubscribeRepository subscribeRepository;
+    private WebSocketChannelInterceptor interceptor;
+    private Map<String, Object> sessionAttributes;
+
+    @Setup
+    public void setup() {
+        subscribeRepository = new InMemorySubscribeRepository();
+        subscribeRepository.saveUserIdBySessionId(1L, "session");
+        // SEND 경로에서는 사용하지 않는 의존성입니다.
+        interceptor = new WebSocketChannelInterceptor(null, null, subscribeRepository, null);
+        sessionAttributes = new ConcurrentHashMap<>();
+        sessionAttributes.put(WebSocketChannelInterceptor.PRINCIPAL_ATTRIBUTE,
+                new UsernamePasswordAuthenticationToken(1L, null, Collections.singletonList(() -> "Role_CHATUSER")));
+    }
+
+    @Benchmark
+    public Message<?> legacy() {
+        Message<byte[]> message = sendMessage();
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+        accessor.setLeaveMutable(true);
+        subscribeRepository.findUserIdBySessionId(accessor.getSessionId()).ifPresent
+                (userId -> accessor.setUser(new UsernamePasswordAuthenticationToken(userId,
+                        null, Collections.singletonList(() -> "Role_CHATUSER"))));
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    @Benchmark
+    public Message<?> sessionCached() {
+        return interceptor.preSend(sendMessage(), null);
+    }
+
+    /* StompSubProtocolHandler 가 만드는 것과 같은 SEND 메세지 */
+    private Message<byte[]> sendMessage() {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SEND);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setDestination("/pub/channel/1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(PAYLOAD, accessor.getMessageHeaders());
+    }
+}
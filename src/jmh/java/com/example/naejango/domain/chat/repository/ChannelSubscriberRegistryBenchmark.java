@@ -0,0 +1,86 @@
+package com.example.naejango.domain.chat.repository;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 100k 세션(유저)이 구독 중일 때 채널 구독자 조회를 비교합니다.
+ * legacy : 이전 InMemorySubscribeRepository 의 ConcurrentHashMap<Long, HashSet<Long>>
+ * registry : ChannelSubscriberRegistry (정렬된 long 배열, copy-on-write)
+ * contains (메세지 발송 시 구독 여부 확인), fanOut (구독자 순회), churn (구독 후 바로 취소) 을 측정합니다.
+ * ./gradlew jmh 로 실행합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChannelSubscriberRegistryBenchmark {
+    private static final int SESSIONS = 100_000;
+
+    /* 채널 당 구독자 수 = SESSIONS / channels */
+    @Param({"1000", "10000"})
+    public int channels;
+
+    private final ConcurrentHashMap<Long, Set<Long>> legacy = new ConcurrentHashMap<>();
+    private final ChannelSubscriberRegistry registry = new ChannelSubscriberRegistry();
+
+    @Setup
+    public void setup() {
+        for (long userId = 0; userId < SESSIONS; userId++) {
+            long channelId = userId % channels;
+            legacy.computeIfAbsent(channelId, key -> new HashSet<>()).add(userId);
+            registry.add(channelId, userId);
+        }
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(SESSIONS);
+    }
+
+    @Benchmark
+    public boolean containsLegacy() {
+        long userId = randomUserId();
+        Long channelId = userId % channels;
+        return legacy.getOrDefault(channelId, new HashSet<>()).contains(userId);
+    }
+
+    @Benchmark
+    public boolean containsRegistry() {
+        long userId = randomUserId();
+        return registry.contains(userId % channels, userId);
+    }
+
+    @Benchmark
+    public long fanOutLegacy() {
+        long sum = 0;
+        for (Long userId : legacy.getOrDefault(randomUserId() % channels, new HashSet<>())) sum += userId;
+        return sum;
+    }
+
+    @Benchmark
+    public long fanOutRegistry() {
+        long[] sum = new long[1];
+        registry.snapshot(randomUserId() % channels).forEachUserId(userId -> sum[0] += userId);
+        return sum[0];
+    }
+
+    @Benchmark
+    public boolean churnLegacy() {
+        long userId = SESSIONS + randomUserId();
+        Long channelId = userId % channels;
+        legacy.computeIfAbsent(channelId, key -> ConcurrentHashMap.newKeySet()).add(userId);
+        return legacy.get(channelId).remove(userId);
+    }
+
+    @Benchmark
+    public boolean churnRegistry() {
+        long userId = SESSIONS + randomUserId();
+        Long channelId = userId % channels;
+        registry.add(channelId, userId);
+        return registry.remove(channelId, userId);
+    }
+}
@@ -26,7 +26,7 @@ public class ChatController {
     /**
      * 그룹 채널 입장
      * 그룹 채널에 입장 합니다. 해당 그룹 채널에 연결되는 Chat 객체를 생성합니다.
-     * 이후 그룹 채널에서 메세지가 발송되면 해당 Chat 과 연관된 ChatMessage 이 생성되어 메세지를 받을 수 있습니다.
+     * 입장 이후 그룹 채널에서 발송된 메세지를 받을 수 있습니다.
      * 채널의 최대 정원 도달시 입장이 불가합니다.
      */
     @PostMapping("/group/{channelId}")
@@ -102,10 +102,9 @@ public class ChatController {
     }
     /**
      * Chat 을 삭제합니다.
-     * 일대일 채팅의 경우, Chat 과 연관된 ChatMessage 가 삭제 됩니다.
-     * 그룹 채팅의 경우, Chat 과 연관된 ChatMessage 모두 삭제되며, channel 의 participantsCount 가 감소합니다.
-     * Channel 과 연관된 ChatMessage 가 없으면 채널에 아무도 남지 않았다고 판단합니다.
-     * 채널에 아무도 남지 않으면 Channel, Chat, ChatMessage, Message 가 전부 삭제됩니다.
+     * 일대일 채팅의 경우, Chat 이 삭제 됩니다.
+     * 그룹 채팅의 경우, Chat 이 삭제되며, channel 의 participantsCount 가 감소합니다.
+     * 채널에 아무도 남지 않으면 Channel, Chat, Message 가 전부 삭제됩니다.
      */
     @DeleteMapping("/{channelId}")
     public ResponseEntity<CommonResponseDto<Long>> deleteChat(@PathVariable("channelId") Long channelId,
@@ -7,14 +7,17 @@ import com.example.naejango.global.common.util.AuthenticationHandler;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/message")
 @RequiredArgsConstructor
+@Validated
 public class MessageController {
 
     private final MessageService messageService;
@@ -28,7 +31,7 @@ public class MessageController {
     @GetMapping("/{chatId}")
     public ResponseEntity<CommonResponseDto<List<MessageDto>>> getRecentMessages(@PathVariable("chatId") Long chatId,
                                                                                  @RequestParam(value = "page", defaultValue = "0") int page,
-                                                                                 @RequestParam(value = "size", defaultValue = "25") @Max(300) int size,
+                                                                                 @RequestParam(value = "size", defaultValue = "25") @Min(1) @Max(300) int size,
                                                                                  Authentication authentication) {
         Long userId = authenticationHandler.getUserId(authentication);
 
@@ -39,4 +42,23 @@ public class MessageController {
         return ResponseEntity.ok().body(new CommonResponseDto<>("조회 성공", serviceDto));
     }
 
+    /**
+     * 채팅 메세지 커서 조회
+     * before 로 전달한 메세지 id 이전의 메세지를 최신순으로 불러 옵니다.
+     * before 가 없는 경우 가장 최근 메세지부터 불러 오며, 해당 채팅의 모든 메세지는 읽음 처리 됩니다.
+     */
+    @GetMapping("/{chatId}/scroll")
+    public ResponseEntity<CommonResponseDto<List<MessageDto>>> getMessagesBefore(@PathVariable("chatId") Long chatId,
+                                                                                 @RequestParam(value = "before", required = false) Long before,
+                                                                                 @RequestParam(value = "limit", defaultValue = "25") @Min(1) @Max(300) int limit,
+                                                                                 Authentication authentication) {
+        Long userId = authenticationHandler.getUserId(authentication);
+
+        // 조회
+        List<MessageDto> serviceDto = messageService.messagesBefore(userId, chatId, before, limit);
+
+        // 반환
+        return ResponseEntity.ok().body(new CommonResponseDto<>("조회 성공", serviceDto));
+    }
+
 }
@@ -1,6 +1,6 @@
 package com.example.naejango.domain.chat.api;
 
-import com.example.naejango.domain.chat.application.http.MessageService;
+import com.example.naejango.domain.chat.application.http.MessageWriteBehindService;
 import com.example.naejango.domain.chat.application.websocket.SubscribeService;
 import com.example.naejango.domain.chat.application.websocket.WebSocketService;
 import com.example.naejango.domain.chat.dto.SubScribeCommandDto;
@@ -25,7 +25,7 @@ import static com.example.naejango.domain.chat.domain.MessageType.*;
 @Controller
 @RequiredArgsConstructor
 public class WebSocketController {
-    private final MessageService messageService;
+    private final MessageWriteBehindService messageWriteBehindService;
     private final AuthenticationHandler authenticationHandler;
     private final SubscribeService subscribeService;
     private final WebSocketService webSocketService;
@@ -66,11 +66,12 @@ public class WebSocketController {
                 .messageType(CHAT)
                 .content(content).build();
 
+        // 메세지 저장 (writer 스레드에서 모아서 저장합니다.)
+        // 저장 요청이 거절되면 발송하지 않습니다.
+        messageWriteBehindService.publishMessage(commandDto);
+
         // 메세지 발송
         webSocketService.publishMessage(commandDto);
-
-        // 메세지 저장
-        messageService.publishMessage(commandDto);
     }
 
     /** 웹소켓 통신 중 에러 정보를 수신하는 WebSocket Endpoint */
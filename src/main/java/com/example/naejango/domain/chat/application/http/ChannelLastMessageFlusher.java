@@ -0,0 +1,90 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.dto.ChannelLastMessageDto;
+import com.example.naejango.domain.chat.repository.ChannelLastMessageStore;
+import com.example.naejango.domain.chat.repository.ChannelRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ChannelLastMessageStore 에 기록된 채널의 마지막 메세지를 channel 테이블에 반영합니다.
+ * flushInterval 마다 변경된 채널을 최대 batchSize 개씩 꺼내 하나의 트랜잭션으로 반영하므로,
+ * 한 채널의 row 는 메세지 수와 관계없이 flushInterval 에 최대 한 번 수정됩니다.
+ */
+@Slf4j
+@Service
+public class ChannelLastMessageFlusher {
+    private final ChannelLastMessageStore channelLastMessageStore;
+    private final ChannelRepository channelRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    public ChannelLastMessageFlusher(ChannelLastMessageStore channelLastMessageStore,
+                                     ChannelRepository channelRepository,
+                                     TransactionTemplate transactionTemplate,
+                                     @Value("${chat.last-message.flush-interval-ms:1000}") long flushIntervalMillis,
+                                     @Value("${chat.last-message.batch-size:500}") int batchSize) {
+        this.channelLastMessageStore = channelLastMessageStore;
+        this.channelRepository = channelRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "channel-last-message-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 변경 사항을 반영합니다. */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        flushSafely();
+    }
+
+    /**
+     * 변경된 채널을 최대 batchSize 개 반영합니다.
+     * 반영에 실패하면 다음 주기에 다시 반영하도록 되돌려 놓습니다.
+     * @return 반영한 채널 수
+     */
+    public int flush() {
+        List<Long> channelIds = channelLastMessageStore.popDirty(batchSize);
+        if (channelIds.isEmpty()) return 0;
+
+        try {
+            Map<Long, ChannelLastMessageDto> lastMessages = channelLastMessageStore.findAll(channelIds);
+            transactionTemplate.executeWithoutResult(status -> lastMessages.forEach((channelId, lastMessage) ->
+                    channelRepository.updateLastMessage(channelId, lastMessage.getContent(), lastMessage.getSentAt())));
+            return lastMessages.size();
+        } catch (RuntimeException e) {
+            channelLastMessageStore.markDirty(channelIds);
+            throw e;
+        }
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("채널 마지막 메세지 반영 실패", e);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.example.naejango.domain.chat.application.http;
 import com.example.naejango.domain.chat.application.websocket.WebSocketService;
 import com.example.naejango.domain.chat.domain.*;
 import com.example.naejango.domain.chat.dto.*;
+import com.example.naejango.domain.chat.repository.ChannelMembershipCache;
 import com.example.naejango.domain.chat.repository.ChannelRepository;
+import com.example.naejango.domain.chat.repository.ChatInboxRepository;
 import com.example.naejango.domain.chat.repository.ChatRepository;
 import com.example.naejango.domain.item.domain.Item;
 import com.example.naejango.domain.item.domain.ItemType;
@@ -32,6 +34,8 @@ import java.util.stream.Collectors;
 public class ChannelService {
     private final ChannelRepository channelRepository;
     private final ChatRepository chatRepository;
+    private final ChatInboxRepository chatInboxRepository;
+    private final ChannelMembershipCache channelMembershipCache;
     private final UserRepository userRepository;
     private final MessageService messageService;
     private final WebSocketService webSocketService;
@@ -78,6 +82,9 @@ public class ChannelService {
 
         chatRepository.save(requesterChat);
         chatRepository.save(otherUserChat);
+        chatInboxRepository.save(ChatInbox.of(requesterChat));
+        chatInboxRepository.save(ChatInbox.of(otherUserChat));
+        channelMembershipCache.invalidate(newPrivateChannel.getId());
 
         // 채널 시작 메세지를 생성합니다.
         MessagePublishCommandDto commandDto = MessagePublishCommandDto.builder()
@@ -141,6 +148,7 @@ public class ChannelService {
                 .build();
 
         Chat savedChat = chatRepository.save(chat);
+        chatInboxRepository.save(ChatInbox.of(savedChat));
 
         // 채널 시작 메세지를 생성합니다.
         MessagePublishCommandDto commandDto = MessagePublishCommandDto.builder()
@@ -206,6 +214,7 @@ public class ChannelService {
             sendCloseMessage(groupChannel.getId(), userId);
             // 채널 종료
             groupChannel.closeChannel();
+            channelMembershipCache.invalidate(groupChannel.getId());
         });
     }
 
@@ -221,6 +230,7 @@ public class ChannelService {
 
             // 채팅 종료
             group.closeChannel();
+            channelMembershipCache.invalidate(channel.getId());
             return;
         }
 
@@ -230,6 +240,7 @@ public class ChannelService {
             sendCloseMessage(channel.getId(), userId);
             // 채팅 종료
             channel.closeChannel();
+            channelMembershipCache.invalidate(channel.getId());
             return;
         }
 
@@ -5,9 +5,11 @@ import com.example.naejango.domain.chat.domain.*;
 import com.example.naejango.domain.chat.dto.ChatInfoDto;
 import com.example.naejango.domain.chat.dto.JoinGroupChannelDto;
 import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.repository.ChannelMembershipCache;
 import com.example.naejango.domain.chat.repository.ChannelRepository;
-import com.example.naejango.domain.chat.repository.ChatMessageRepository;
+import com.example.naejango.domain.chat.repository.ChatInboxRepository;
 import com.example.naejango.domain.chat.repository.ChatRepository;
+import com.example.naejango.domain.chat.repository.MessageArchiveRepository;
 import com.example.naejango.domain.chat.repository.MessageRepository;
 import com.example.naejango.domain.user.domain.User;
 import com.example.naejango.global.common.exception.CustomException;
@@ -25,9 +27,11 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class ChatService {
     private final ChatRepository chatRepository;
+    private final ChatInboxRepository chatInboxRepository;
     private final ChannelRepository channelRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final MessageRepository messageRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final ChannelMembershipCache channelMembershipCache;
     private final WebSocketService webSocketService;
     private final MessageService messageService;
     private final EntityManager em;
@@ -59,10 +63,15 @@ public class ChatService {
                 .title(channel.getDefaultTitle())
                 .channel(channel)
                 .build();
+
+        // 입장 이전의 메세지는 조회되지 않도록 합니다.
+        newChat.startFrom(messageRepository.findLastMessageIdByChannelId(channelId));
         chatRepository.save(newChat);
+        chatInboxRepository.save(ChatInbox.of(newChat));
 
         // 채널 참여자 수를 늘립니다.
         channel.increaseParticipantCount();
+        channelMembershipCache.invalidate(channelId);
 
         // 아래 발행 로직의 정상적 작동을 위해 변경 사항을 DB 에 저장합니다.
         em.flush();
@@ -131,11 +140,10 @@ public class ChatService {
     }
 
     private void deleteChat(Long userId, Chat chat, Channel channel) {
-        // Chat 에 연관된 ChatMessage 를 삭제합니다.
-        chatMessageRepository.deleteChatMessageByChat(chat.getId());
-
         // Chat 을 삭제합니다. (더이상 메세지를 수신하지 못하도록)
         chatRepository.deleteById(chat.getId());
+        chatInboxRepository.deleteByChatId(chat.getId());
+        channelMembershipCache.invalidate(channel.getId());
 
 
         // 그룹 채팅의 경우
@@ -155,6 +163,7 @@ public class ChatService {
             if (groupChannel.getParticipantsCount() == 0) {
                 em.flush();
                 messageRepository.deleteMessagesByChannelId(channel.getId());
+                messageArchiveRepository.deleteMessagesByChannelId(channel.getId());
                 channelRepository.deleteById(channel.getId());
                 return;
             }
@@ -0,0 +1,146 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.repository.MessageArchiveRepository;
+import com.example.naejango.domain.chat.repository.MessagePartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 오래된 메세지를 보관(cold) 영역인 message_archive 로 옮깁니다.
+ * 1. 보관 기간(retentionMonths)이 지난 메세지
+ *    - message 가 파티션 테이블인 경우 해당 월의 파티션을 통째로 옮긴 후 삭제합니다.
+ *    - 일반 테이블인 경우 batchSize 개씩 나누어 옮깁니다.
+ * 2. 종료된 지 closedChannelGraceDays 가 지난 채널의 메세지
+ * 파티션 테이블인 경우 이번 달과 다음 달 파티션을 미리 생성하여 메세지 저장이 기본 파티션으로 가지 않도록 합니다.
+ * 조회는 MessageService 에서 message 와 message_archive 를 이어서 조회합니다.
+ */
+@Slf4j
+@Service
+public class MessageArchiveService {
+    private final MessageArchiveRepository messageArchiveRepository;
+    private final MessagePartitionRepository messagePartitionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long intervalMillis;
+    private final int retentionMonths;
+    private final int closedChannelGraceDays;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final ScheduledExecutorService scheduler;
+
+    public MessageArchiveService(MessageArchiveRepository messageArchiveRepository,
+                                 MessagePartitionRepository messagePartitionRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${chat.archive.enabled:true}") boolean enabled,
+                                 @Value("${chat.archive.interval-ms:3600000}") long intervalMillis,
+                                 @Value("${chat.archive.retention-months:6}") int retentionMonths,
+                                 @Value("${chat.archive.closed-channel-grace-days:7}") int closedChannelGraceDays,
+                                 @Value("${chat.archive.batch-size:5000}") int batchSize,
+                                 @Value("${chat.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.messageArchiveRepository = messageArchiveRepository;
+        this.messagePartitionRepository = messagePartitionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.intervalMillis = intervalMillis;
+        this.retentionMonths = retentionMonths;
+        this.closedChannelGraceDays = closedChannelGraceDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "message-archiver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        scheduler.execute(() -> runSafely(this::preparePartitions));
+        scheduler.scheduleWithFixedDelay(() -> runSafely(this::archive), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /** 파티션 테이블인 경우 이번 달과 다음 달 파티션을 생성합니다. */
+    public void preparePartitions() {
+        if (!messagePartitionRepository.isPartitioned()) return;
+        YearMonth current = YearMonth.now();
+        messagePartitionRepository.createPartition(current);
+        messagePartitionRepository.createPartition(current.plusMonths(1));
+    }
+
+    /**
+     * 보관 대상 메세지를 옮깁니다.
+     * @return 옮긴 메세지 수
+     */
+    public long archive() {
+        preparePartitions();
+        long archived = archiveExpiredMessages() + archiveClosedChannels();
+        if (archived > 0) log.info("메세지 {} 건을 보관 영역으로 옮겼습니다.", archived);
+        return archived;
+    }
+
+    private long archiveExpiredMessages() {
+        YearMonth oldestHotMonth = YearMonth.now().minusMonths(retentionMonths);
+
+        if (!messagePartitionRepository.isPartitioned()) {
+            LocalDateTime cutoff = oldestHotMonth.atDay(1).atStartOfDay();
+            return moveInBatches(() -> messageArchiveRepository.archiveMessagesCreatedBefore(cutoff, batchSize));
+        }
+
+        long archived = 0;
+        for (YearMonth month : messagePartitionRepository.findPartitions().keySet()) {
+            if (!month.isBefore(oldestHotMonth)) break;
+            Integer moved = transactionTemplate.execute(status -> messagePartitionRepository.archivePartition(month));
+            archived += moved == null ? 0 : moved;
+        }
+        return archived;
+    }
+
+    private long archiveClosedChannels() {
+        LocalDateTime closedBefore = LocalDateTime.now().minusDays(closedChannelGraceDays);
+        List<Long> channelIds = messageArchiveRepository.findClosedChannelIdsWithMessages(closedBefore, maxBatchesPerRun);
+
+        long archived = 0;
+        for (Long channelId : channelIds) {
+            archived += moveInBatches(() -> messageArchiveRepository.archiveChannelMessages(channelId, batchSize));
+        }
+        return archived;
+    }
+
+    /** 한 번에 batchSize 개씩, 실행 당 최대 maxBatchesPerRun 번 옮깁니다. 각 batch 는 별도의 트랜잭션입니다. */
+    private long moveInBatches(IntSupplier batch) {
+        long archived = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer moved = transactionTemplate.execute(status -> batch.getAsInt());
+            if (moved == null || moved == 0) break;
+            archived += moved;
+            if (moved < batchSize) break;
+        }
+        return archived;
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("메세지 보관 작업 실패", e);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.naejango.domain.chat.application.http;
 
 import com.example.naejango.domain.chat.domain.*;
+import com.example.naejango.domain.chat.dto.ChannelLastMessageDto;
+import com.example.naejango.domain.chat.dto.ChannelMembershipDto;
 import com.example.naejango.domain.chat.dto.MessageDto;
 import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
 import com.example.naejango.domain.chat.repository.*;
@@ -15,6 +17,9 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -23,50 +28,80 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class MessageService {
     private final MessageRepository messageRepository;
+    private final MessageArchiveRepository messageArchiveRepository;
     private final ChatRepository chatRepository;
+    private final ChatInboxRepository chatInboxRepository;
     private final ChannelRepository channelRepository;
-    private final ChatMessageRepository chatMessageRepository;
     private final SubscribeRepository subscribeRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final ChannelLastMessageStore channelLastMessageStore;
     private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void publishMessage(MessagePublishCommandDto commandDto) {
-        // 메세지를 저장합니다.
-        Channel channel = channelRepository.findById(commandDto.getChannelId())
+        publishMessages(List.of(commandDto));
+    }
+
+    /**
+     * 여러 메세지를 하나의 트랜잭션으로 저장합니다. (MessageWriteBehindService 의 group commit)
+     * 같은 채널의 메세지는 채널 내 순서를 유지하며, 구독자 조회와 읽음 처리를 채널 당 한 번만 수행합니다.
+     */
+    @Transactional
+    public void publishMessages(List<MessagePublishCommandDto> commandDtos) {
+        commandDtos.stream()
+                .collect(Collectors.groupingBy(MessagePublishCommandDto::getChannelId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(this::publishChannelMessages);
+    }
+
+    private void publishChannelMessages(Long channelId, List<MessagePublishCommandDto> commandDtos) {
+        // 채널의 종료 여부와 참여자는 캐시에서 확인하고, 메세지에는 조회 없이 Channel 의 참조만 연결합니다.
+        ChannelMembershipDto membership = channelMembershipCache.find(channelId)
                 .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
+        Channel channel = channelRepository.getReferenceById(channelId);
 
-        // 채널 상태 확인
-        if (channel.getIsClosed() && !commandDto.getMessageType().equals(MessageType.EXIT)) {
-            throw new CustomException(ErrorCode.CHANNEL_IS_CLOSED);
+        // 메세지를 저장합니다.
+        Message sentMessage = null;
+        for (MessagePublishCommandDto commandDto : commandDtos) {
+            // 채널 상태 확인
+            if (membership.isClosed() && !commandDto.getMessageType().equals(MessageType.EXIT)) {
+                throw new CustomException(ErrorCode.CHANNEL_IS_CLOSED);
+            }
+            sentMessage = messageRepository.save(commandDto.toEntity(channel));
         }
 
-        Message sentMessage = commandDto.toEntity(channel);
-        messageRepository.save(sentMessage);
-
-        // 메세지를 채팅방에 할당 합니다.
         // 현재 메시지를 구독 중인(보고 있는) 구독자를 찾아옵니다.
-        Set<Long> subscribers = subscribeRepository.findSubscribersByChannelId(channel.getId());
-        // 채널에 연결되어 있는 모든 chatId를 찾아 옵니다.
-        chatRepository.findByChannelId(channel.getId()).forEach(chat -> {
-            ChatMessage chatMessage = ChatMessage.builder().isRead(false).message(sentMessage).chat(chat).build();
-            // 현재 구독중인(보고 있는) 유저의 경우 읽음 처리를 합니다.
-            if(subscribers.contains(chat.getOwner().getId())) chatMessage.read();
-            else {
-                // 보고 있지 않은 사람들은 알림을 보내줍니다.
-                eventPublisher.publishEvent(new NotificationPublishDto(
-                        chat.getOwner().getId(),
-                        NotificationType.CHAT,
-                        commandDto.getContent(),
-                        String.valueOf(commandDto.getChannelId())
-                ));
-            }
-            chatMessageRepository.save(chatMessage);
+        Set<Long> subscribers = subscribeRepository.findSubscribersByChannelId(channelId);
+
+        // 채팅 목록(inbox)에 안 읽은 메세지 수와 마지막 메세지를 반영합니다.
+        LocalDateTime sentAt = sentMessage.getCreatedDate() != null ? sentMessage.getCreatedDate() : LocalDateTime.now();
+        chatInboxRepository.publishMessages(channelId, commandDtos.size(), sentMessage.getContent(), sentAt);
+
+        // 보고 있는 사람들은 마지막 메세지까지 읽음 처리 합니다. (Chat 의 lastReadMessageId 갱신)
+        if (!subscribers.isEmpty()) {
+            chatRepository.readMessageByChannelIdAndOwnerIds(channelId, subscribers, sentMessage.getId());
+            chatInboxRepository.readMessageByChannelIdAndOwnerIds(channelId, subscribers);
+        }
+
+        // 보고 있지 않은 사람들은 알림을 보내줍니다.
+        List<Long> receiverIds = new ArrayList<>();
+        membership.forEachMember(ownerId -> {
+            if (!subscribers.contains(ownerId)) receiverIds.add(ownerId);
         });
+        commandDtos.forEach(commandDto -> receiverIds.forEach(receiverId -> eventPublisher.publishEvent(new NotificationPublishDto(
+                receiverId,
+                NotificationType.CHAT,
+                commandDto.getContent(),
+                String.valueOf(commandDto.getChannelId())
+        ))));
 
-        // Channel 의 마지막 메세지를 업데이트 합니다.
-        channel.updateLastMessage(commandDto.getContent());
+        // Channel 의 마지막 메세지를 기록합니다. channel row 는 ChannelLastMessageFlusher 가 주기적으로 반영합니다.
+        channelLastMessageStore.update(channelId, new ChannelLastMessageDto(sentMessage.getId(), sentMessage.getContent(), sentAt));
     }
 
+    /**
+     * 채팅 메세지 조회 (offset)
+     * message 테이블의 메세지를 먼저 조회하고, 페이지가 다 채워지지 않으면 보관 영역(message_archive)에서 이어서 조회합니다.
+     */
     @Transactional
     public List<MessageDto> recentMessages(Long userId, Long chatId, int page, int size) {
         Chat chat = chatRepository.findById(chatId).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
@@ -76,14 +111,58 @@ public class MessageService {
 
         // 조회
         Page<Message> findResult = messageRepository.findRecentMessages(chatId, PageRequest.of(page, size));
+        List<MessageDto> messages = findResult.getContent().stream().map(MessageDto::new).collect(Collectors.toList());
+
+        // 보관 영역 조회 - 보관된 메세지는 항상 message 테이블의 메세지보다 이전 메세지 입니다.
+        if (messages.size() < size) {
+            long archiveOffset = Math.max(0L, (long) page * size - findResult.getTotalElements());
+            messageArchiveRepository.findRecentMessages(chatId, archiveOffset, size - messages.size())
+                    .forEach(archived -> messages.add(new MessageDto(archived)));
+        }
 
         // 예외 처리 - Message 가 0 개 인 경우는 없음(채널 시작시 메세지 생성)
-        if(findResult.isEmpty()) throw new CustomException(ErrorCode.MESSAGE_NOT_FOUND);
+        if(messages.isEmpty()) throw new CustomException(ErrorCode.MESSAGE_NOT_FOUND);
+
+        // 메세지 읽기 (가장 최근 메세지까지 읽음 처리 합니다.)
+        chat.readMessage(messageRepository.findLastMessageIdByChannelId(chat.getChannel().getId()));
+        chatInboxRepository.readMessage(chatId);
+
+        return messages;
+    }
 
-        // 메세지 읽기
-        chatMessageRepository.readMessage(chatId);
+    /**
+     * 커서 기반 메세지 조회
+     * beforeMessageId 이전의 메세지를 최신순으로 limit 개 조회합니다.
+     * message 테이블에서 limit 개를 채우지 못하면 보관 영역(message_archive)에서 이어서 조회합니다.
+     * beforeMessageId 가 없으면 가장 최근 메세지부터 조회하며, 이 경우에만 읽음 처리 합니다.
+     * 더 이전 메세지가 없으면 빈 리스트를 반환합니다.
+     */
+    @Transactional
+    public List<MessageDto> messagesBefore(Long userId, Long chatId, Long beforeMessageId, int limit) {
+        Chat chat = chatRepository.findById(chatId).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
+
+        // 권한 확인
+        if(!userId.equals(chat.getOwner().getId())) throw new CustomException(ErrorCode.UNAUTHORIZED_READ_REQUEST);
+
+        // 조회
+        long cursor = beforeMessageId == null ? Long.MAX_VALUE : beforeMessageId;
+        List<MessageDto> messages = messageRepository.findMessagesBefore(chatId, cursor, PageRequest.ofSize(limit))
+                .stream().map(MessageDto::new).collect(Collectors.toList());
+
+        // 보관 영역 조회
+        if (messages.size() < limit) {
+            long archiveCursor = messages.isEmpty() ? cursor : messages.get(messages.size() - 1).getMessageId();
+            messageArchiveRepository.findMessagesBefore(chatId, archiveCursor, PageRequest.ofSize(limit - messages.size()))
+                    .forEach(archived -> messages.add(new MessageDto(archived)));
+        }
+
+        // 첫 페이지 조회 시 가장 최근 메세지까지 읽음 처리 합니다.
+        if (beforeMessageId == null && !messages.isEmpty()) {
+            chat.readMessage(messages.get(0).getMessageId());
+            chatInboxRepository.readMessage(chatId);
+        }
 
-        return findResult.getContent().stream().map(MessageDto::new).collect(Collectors.toList());
+        return messages;
     }
 
 }
@@ -0,0 +1,156 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.global.common.exception.ErrorCode;
+import com.example.naejango.global.common.exception.WebSocketException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 웹소켓으로 발송된 메세지를 비동기로 저장합니다. (write-behind)
+ * 메세지는 크기가 제한된 큐에 쌓이고, 전용 writer 스레드가 batchSize 개 또는 flushInterval 마다
+ * 모아서 하나의 트랜잭션으로 저장합니다. (group commit)
+ * 큐가 가득 차 offerTimeout 안에 넣지 못하면 요청을 거절합니다. (backpressure)
+ * 큐를 거치지 않고 저장하면 같은 채널의 대기 중인 메세지보다 먼저 저장되어 순서가 바뀌므로, 활성화된 경우 모든 메세지는 큐를 통해서만 저장합니다.
+ * 종료 시에는 큐에 남은 메세지를 모두 저장한 후 종료합니다.
+ */
+@Slf4j
+@Service
+public class MessageWriteBehindService {
+    private final MessageService messageService;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final BlockingQueue<MessagePublishCommandDto> queue;
+    private final Thread writer;
+    private volatile boolean running;
+
+    public MessageWriteBehindService(MessageService messageService,
+                                     @Value("${chat.write-behind.enabled:true}") boolean enabled,
+                                     @Value("${chat.write-behind.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${chat.write-behind.batch-size:200}") int batchSize,
+                                     @Value("${chat.write-behind.flush-interval-ms:50}") long flushIntervalMillis,
+                                     @Value("${chat.write-behind.offer-timeout-ms:100}") long offerTimeoutMillis,
+                                     @Value("${chat.write-behind.shutdown-timeout-ms:30000}") long shutdownTimeoutMillis) {
+        this.messageService = messageService;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::writeLoop, "message-writer");
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        running = true;
+        writer.start();
+    }
+
+    /**
+     * 메세지 저장을 요청합니다.
+     * @throws WebSocketException 큐가 가득 찼거나 종료 중인 경우 (MESSAGE_QUEUE_FULL)
+     */
+    public void publishMessage(MessagePublishCommandDto commandDto) {
+        if (!enabled) {
+            messageService.publishMessage(commandDto);
+            return;
+        }
+        if (!running) throw new WebSocketException(ErrorCode.MESSAGE_QUEUE_FULL);
+
+        boolean offered;
+        try {
+            offered = queue.offer(commandDto, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            offered = false;
+        }
+
+        // 큐가 가득 찬 경우 요청을 거절합니다.
+        if (!offered) throw new WebSocketException(ErrorCode.MESSAGE_QUEUE_FULL);
+    }
+
+    /** 큐에 쌓여 있는 메세지 수 */
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (!running) return;
+        running = false;
+        writer.join(shutdownTimeoutMillis);
+        if (writer.isAlive()) {
+            log.error("메세지 저장이 종료 시간 내에 끝나지 않았습니다. 남은 메세지 : {}", queue.size());
+            return;
+        }
+
+        // writer 종료 직전에 들어온 메세지를 저장합니다.
+        List<MessagePublishCommandDto> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        rest.forEach(this::flushOne);
+    }
+
+    private void writeLoop() {
+        // 종료 요청 이후에도 큐가 빌 때까지 저장합니다.
+        while (running || !queue.isEmpty()) {
+            List<MessagePublishCommandDto> batch = new ArrayList<>(batchSize);
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch);
+                running = false;
+            }
+            if (!batch.isEmpty()) flush(batch);
+        }
+    }
+
+    /** 첫 메세지를 받은 후 batchSize 만큼 쌓이거나 flushInterval 이 지날 때 까지 메세지를 모읍니다. */
+    private void collect(List<MessagePublishCommandDto> batch) throws InterruptedException {
+        MessagePublishCommandDto first = queue.poll(flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (first == null) return;
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) return;
+            MessagePublishCommandDto next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) return;
+            batch.add(next);
+        }
+    }
+
+    private void flush(List<MessagePublishCommandDto> batch) {
+        try {
+            messageService.publishMessages(batch);
+        } catch (RuntimeException e) {
+            // 하나의 메세지 때문에 전체가 롤백된 경우 (ex. 종료된 채널) 한 건씩 다시 저장합니다.
+            log.warn("메세지 일괄 저장 실패, 개별 저장을 시도합니다. size : {}", batch.size(), e);
+            batch.forEach(this::flushOne);
+        }
+    }
+
+    private void flushOne(MessagePublishCommandDto commandDto) {
+        try {
+            messageService.publishMessage(commandDto);
+        } catch (RuntimeException e) {
+            log.error("메세지 저장 실패 : {}", commandDto, e);
+        }
+    }
+}
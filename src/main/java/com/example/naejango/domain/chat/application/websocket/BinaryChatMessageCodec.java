@@ -0,0 +1,101 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import com.example.naejango.global.common.exception.ErrorCode;
+import com.example.naejango.global.common.exception.WebSocketException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * MessagePublishCommandDto 를 고정된 순서의 바이너리로 주고 받습니다.
+ * [version(1)] [messageType ordinal(varint)] [senderId + 1(varint)] [channelId(varint)] [content 길이 + 1(varint)] [content(UTF-8)]
+ * null 인 senderId, content 는 0 으로 표현합니다.
+ * 복호화 시 중간 객체 없이 WebSocketMessageSendDto 와 content 문자열만 생성합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "chat.bus.codec", havingValue = "binary")
+public class BinaryChatMessageCodec implements ChatMessageCodec {
+    private static final byte VERSION = 1;
+    private static final MessageType[] MESSAGE_TYPES = MessageType.values();
+
+    @Override
+    public byte[] encode(MessagePublishCommandDto commandDto) {
+        byte[] content = commandDto.getContent() == null ? null : commandDto.getContent().getBytes(StandardCharsets.UTF_8);
+        long senderId = commandDto.getSenderId() == null ? 0 : commandDto.getSenderId() + 1;
+        long contentLength = content == null ? 0 : content.length + 1L;
+
+        byte[] payload = new byte[1 + varintSize(commandDto.getMessageType().ordinal()) + varintSize(senderId)
+                + varintSize(commandDto.getChannelId()) + varintSize(contentLength) + (content == null ? 0 : content.length)];
+        payload[0] = VERSION;
+        int position = writeVarint(payload, 1, commandDto.getMessageType().ordinal());
+        position = writeVarint(payload, position, senderId);
+        position = writeVarint(payload, position, commandDto.getChannelId());
+        position = writeVarint(payload, position, contentLength);
+        if (content != null) System.arraycopy(content, 0, payload, position, content.length);
+        return payload;
+    }
+
+    @Override
+    public WebSocketMessageSendDto decode(byte[] payload) {
+        if (payload.length == 0 || payload[0] != VERSION) throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+        Reader reader = new Reader(payload);
+        long ordinal = reader.readVarint();
+        long senderId = reader.readVarint();
+        long channelId = reader.readVarint();
+        long contentLength = reader.readVarint();
+        // 변조된 varint 는 long 으로 음수가 될 수 있으므로 형변환 전에 범위를 확인합니다.
+        if (ordinal < 0 || ordinal >= MESSAGE_TYPES.length
+                || contentLength < 0 || contentLength - 1 > payload.length - reader.position) {
+            throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+        }
+
+        String content = contentLength == 0 ? null
+                : new String(payload, reader.position, (int) (contentLength - 1), StandardCharsets.UTF_8);
+        return new WebSocketMessageSendDto(MESSAGE_TYPES[(int) ordinal], senderId == 0 ? null : senderId - 1,
+                channelId, LocalDateTime.now(), content);
+    }
+
+    private static int varintSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+
+    private static int writeVarint(byte[] buffer, int position, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        buffer[position++] = (byte) value;
+        return position;
+    }
+
+    /* 복호화 위치를 가지고 있는 읽기 도우미, 메세지 당 하나만 생성됩니다. */
+    private static final class Reader {
+        private final byte[] payload;
+        private int position = 1;
+
+        private Reader(byte[] payload) {
+            this.payload = payload;
+        }
+
+        private long readVarint() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                if (position >= payload.length) throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+                byte b = payload[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return value;
+            }
+            throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import java.util.Arrays;
+
+/**
+ * 서버 간 채팅 메세지(Redis Pub/Sub)에 메세지를 발행한 노드의 tag 와 발행 시각을 붙입니다.
+ * [MARKER(1)] [origin tag(8)] [발행 시각 epoch millis(8)] [ChatMessageCodec 으로 인코딩한 메세지], 숫자는 big-endian 입니다.
+ * JSON 은 '{', 바이너리는 버전(1) 으로 시작하므로 MARKER 로 시작하지 않는 메세지는 tag 가 없는 이전 형식으로 취급합니다.
+ */
+public final class ChatBusFrame {
+    private static final byte MARKER = (byte) 0xFE;
+    private static final int HEADER_LENGTH = 17;
+
+    private ChatBusFrame() {
+    }
+
+    public static byte[] wrap(long originTag, long publishedAtMillis, byte[] payload) {
+        byte[] frame = new byte[HEADER_LENGTH + payload.length];
+        frame[0] = MARKER;
+        writeLong(frame, 1, originTag);
+        writeLong(frame, 9, publishedAtMillis);
+        System.arraycopy(payload, 0, frame, HEADER_LENGTH, payload.length);
+        return frame;
+    }
+
+    public static boolean hasOrigin(byte[] frame) {
+        return frame.length >= HEADER_LENGTH && frame[0] == MARKER;
+    }
+
+    /** 메세지를 발행한 노드의 tag, hasOrigin 이 true 인 경우에만 사용합니다. */
+    public static long originOf(byte[] frame) {
+        return readLong(frame, 1);
+    }
+
+    /** 메세지를 발행한 시각(epoch millis), hasOrigin 이 true 인 경우에만 사용합니다. */
+    public static long publishedAtOf(byte[] frame) {
+        return readLong(frame, 9);
+    }
+
+    /** tag 를 제외한 메세지, tag 가 없으면 그대로 반환합니다. */
+    public static byte[] payloadOf(byte[] frame) {
+        return hasOrigin(frame) ? Arrays.copyOfRange(frame, HEADER_LENGTH, frame.length) : frame;
+    }
+
+    private static void writeLong(byte[] buffer, int position, long value) {
+        for (int i = 0; i < 8; i++) buffer[position + i] = (byte) (value >>> (56 - 8 * i));
+    }
+
+    private static long readLong(byte[] buffer, int position) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) value = (value << 8) | (buffer[position + i] & 0xFF);
+        return value;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+
+/**
+ * 서버 간 채팅 메세지(Redis Pub/Sub)의 직렬화 방식 입니다.
+ * chat.bus.codec 설정으로 json(기본값) 또는 binary 를 선택합니다.
+ * 모든 서버가 같은 방식을 사용해야 합니다.
+ */
+public interface ChatMessageCodec {
+    byte[] encode(MessagePublishCommandDto commandDto);
+
+    /**
+     * 수신한 메세지를 구독자에게 보낼 메세지로 바로 변환합니다.
+     * @throws com.example.naejango.global.common.exception.WebSocketException 형식이 잘못된 경우 (FORGED_REQUEST)
+     */
+    WebSocketMessageSendDto decode(byte[] payload);
+}
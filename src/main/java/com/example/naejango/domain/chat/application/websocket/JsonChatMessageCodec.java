@@ -0,0 +1,45 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import com.example.naejango.global.common.exception.ErrorCode;
+import com.example.naejango.global.common.exception.WebSocketException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/** MessagePublishCommandDto 를 JSON 으로 주고 받습니다. 기존 형식과 호환됩니다. */
+@Component
+@ConditionalOnProperty(name = "chat.bus.codec", havingValue = "json", matchIfMissing = true)
+public class JsonChatMessageCodec implements ChatMessageCodec {
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+
+    public JsonChatMessageCodec(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writerFor(MessagePublishCommandDto.class);
+        this.reader = objectMapper.readerFor(MessagePublishCommandDto.class);
+    }
+
+    @Override
+    public byte[] encode(MessagePublishCommandDto commandDto) {
+        try {
+            return writer.writeValueAsBytes(commandDto);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public WebSocketMessageSendDto decode(byte[] payload) {
+        try {
+            MessagePublishCommandDto commandDto = reader.readValue(payload);
+            return commandDto.toSendDto();
+        } catch (IOException e) {
+            throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+        }
+    }
+}
@@ -1,34 +1,77 @@
 package com.example.naejango.domain.chat.application.websocket;
 
-import com.example.naejango.domain.chat.domain.Channel;
+import com.example.naejango.domain.chat.config.ChatNodeId;
+import com.example.naejango.domain.chat.config.ChatTopicRegistry;
 import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.ChannelMembershipDto;
 import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
-import com.example.naejango.domain.chat.repository.ChannelRepository;
+import com.example.naejango.domain.chat.repository.ChannelMembershipCache;
 import com.example.naejango.global.common.exception.CustomException;
 import com.example.naejango.global.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static com.example.naejango.domain.chat.domain.MessageType.SUBSCRIBE_CHANNEL;
+
+/**
+ * 메세지를 Redis 채널 토픽으로 발행하고, 이 서버의 구독자에게는 Redis 를 거치지 않고 바로 보냅니다.
+ * 발행하는 메세지에는 이 서버의 tag 를 붙여, ChatMessageListener 가 자신이 발행한 메세지를 다시 보내지 않도록 합니다.
+ */
 @Service
 @ConditionalOnProperty(name = "redis-config.websocket", havingValue = "true")
-@RequiredArgsConstructor
 public class RedisWebSocketService implements WebSocketService {
     private final RedisTemplate<String, Object> redisTemplate;
-    private final ChannelRepository channelRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final ChatMessageCodec chatMessageCodec;
+    private final SimpMessagingTemplate messageSender;
+    private final long nodeTag;
+    private final Timer localDeliveryLatency;
+
+    public RedisWebSocketService(RedisTemplate<String, Object> redisTemplate,
+                                 ChannelMembershipCache channelMembershipCache,
+                                 ChatTopicRegistry chatTopicRegistry,
+                                 ChatMessageCodec chatMessageCodec,
+                                 SimpMessagingTemplate messageSender,
+                                 ChatNodeId chatNodeId,
+                                 MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.channelMembershipCache = channelMembershipCache;
+        this.chatTopicRegistry = chatTopicRegistry;
+        this.chatMessageCodec = chatMessageCodec;
+        this.messageSender = messageSender;
+        this.nodeTag = chatNodeId.getTag();
+        this.localDeliveryLatency = meterRegistry.timer("chat.delivery.latency", "path", "local");
+    }
 
     public void publishMessage(MessagePublishCommandDto commandDto) {
         // 채널이 있는지 확인
-        Channel channel = channelRepository.findById(commandDto.getChannelId())
+        ChannelMembershipDto membership = channelMembershipCache.find(commandDto.getChannelId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CHANNEL_NOT_FOUND));
 
         // 채널 종료 여부 확인, 퇴장 메세지는 발행합니다.
-        if(channel.getIsClosed() && !commandDto.getMessageType().equals(MessageType.EXIT)) {
+        if(membership.isClosed() && !commandDto.getMessageType().equals(MessageType.EXIT)) {
             throw new CustomException(ErrorCode.CHANNEL_IS_CLOSED);
         }
 
-        redisTemplate.convertAndSend("chat", commandDto);
+        // 채널의 토픽으로 발행하여 구독자가 있는 서버만 수신하도록 합니다.
+        long publishedAt = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        byte[] topic = chatTopicRegistry.topicOf(commandDto.getChannelId()).getBytes(StandardCharsets.UTF_8);
+        byte[] frame = ChatBusFrame.wrap(nodeTag, publishedAt, chatMessageCodec.encode(commandDto));
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(topic, frame));
+
+        // 발행에 성공한 메세지는 이 서버의 구독자에게 바로 보냅니다.
+        messageSender.convertAndSend(SUBSCRIBE_CHANNEL.getEndpointPrefix() + commandDto.getChannelId(), commandDto.toSendDto());
+        localDeliveryLatency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
     }
 
 }
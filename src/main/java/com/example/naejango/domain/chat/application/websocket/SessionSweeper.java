@@ -0,0 +1,134 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.repository.SubscribeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 연결 종료 처리가 누락된 세션(고아 세션)을 정리하는 클래스
+ * 클라이언트가 DISCONNECT 프레임 없이 끊기면 인터셉터를 거치지 않으므로 SessionDisconnectEvent 로 세션을 정리합니다.
+ * 서버가 비정상 종료되면 이벤트도 발생하지 않으므로, 각 서버는 주기적으로 lease 를 갱신하고
+ * lease 가 만료된 서버의 세션을 가져와(adopt) 정리합니다.
+ * 이 서버에 기록된 세션 중 실제로 연결되어 있지 않은 세션도 함께 정리합니다.
+ */
+@Slf4j
+@Component
+public class SessionSweeper {
+    private final SubscribeRepository subscribeRepository;
+    private final SubscribeService subscribeService;
+    private final long leaseRenewIntervalMillis;
+    private final long sweepIntervalMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    /* 이 서버에 연결되어 있는 sessionId */
+    private final Set<String> liveSessionIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter adoptedCounter;
+    private final Counter eventSweptCounter;
+    private final Counter orphanSweptCounter;
+
+    public SessionSweeper(SubscribeRepository subscribeRepository,
+                          SubscribeService subscribeService,
+                          MeterRegistry meterRegistry,
+                          @Value("${chat.session.lease-ttl-ms:30000}") long leaseTtlMillis,
+                          @Value("${chat.session.sweep-interval-ms:30000}") long sweepIntervalMillis,
+                          @Value("${chat.session.sweep-batch-size:500}") int batchSize) {
+        this.subscribeRepository = subscribeRepository;
+        this.subscribeService = subscribeService;
+        this.leaseRenewIntervalMillis = Math.max(leaseTtlMillis / 3, 1);
+        this.sweepIntervalMillis = sweepIntervalMillis;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-session-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.adoptedCounter = meterRegistry.counter("chat.session.orphans.adopted");
+        this.eventSweptCounter = meterRegistry.counter("chat.session.orphans.swept", "reason", "disconnect-event");
+        this.orphanSweptCounter = meterRegistry.counter("chat.session.orphans.swept", "reason", "sweep");
+        meterRegistry.gaugeCollectionSize("chat.session.live", List.of(), liveSessionIds);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::renewLeaseSafely, 0, leaseRenewIntervalMillis, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sweepSafely, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /** 연결된 세션을 등록합니다. 세션 정보를 저장하기 전에 호출해야 정리 대상에서 제외됩니다. */
+    public void register(String sessionId) {
+        liveSessionIds.add(sessionId);
+    }
+
+    /**
+     * 웹소켓 연결이 끊기면 세션을 정리합니다.
+     * DISCONNECT 프레임으로 이미 정리된 세션이면 아무것도 하지 않습니다.
+     */
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        String sessionId = event.getSessionId();
+        liveSessionIds.remove(sessionId);
+        try {
+            if (subscribeService.cleanup(sessionId)) eventSweptCounter.increment();
+        } catch (RuntimeException e) {
+            // 정리하지 못한 세션은 다음 sweep 에서 정리됩니다.
+            log.warn("세션 정리 실패 : {}", sessionId, e);
+        }
+    }
+
+    /**
+     * lease 가 만료된 서버의 세션을 가져온 뒤, 이 서버에 기록된 세션 중 연결되어 있지 않은 세션을 정리합니다.
+     * @return 정리한 세션 수
+     */
+    public int sweep() {
+        int adopted = subscribeRepository.adoptExpiredSessions(batchSize);
+        if (adopted > 0) adoptedCounter.increment(adopted);
+
+        int swept = 0;
+        for (String sessionId : subscribeRepository.findNodeSessionIds()) {
+            if (liveSessionIds.contains(sessionId)) continue;
+            if (subscribeService.cleanup(sessionId)) swept++;
+        }
+        if (swept > 0) {
+            orphanSweptCounter.increment(swept);
+            log.info("고아 세션 {}개를 정리했습니다. (가져온 세션 {}개)", swept, adopted);
+        }
+        return swept;
+    }
+
+    private void renewLeaseSafely() {
+        try {
+            subscribeRepository.renewLease();
+        } catch (Exception e) {
+            log.warn("세션 lease 갱신 실패", e);
+        }
+    }
+
+    private void sweepSafely() {
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.warn("고아 세션 정리 실패", e);
+        }
+    }
+}
@@ -1,77 +1,63 @@
 package com.example.naejango.domain.chat.application.websocket;
 
+import com.example.naejango.domain.chat.config.ChatTopicRegistry;
 import com.example.naejango.domain.chat.dto.SubScribeCommandDto;
-import com.example.naejango.domain.chat.repository.ChatRepository;
+import com.example.naejango.domain.chat.repository.ChannelMembershipCache;
 import com.example.naejango.domain.chat.repository.SubscribeRepository;
 import com.example.naejango.global.common.exception.ErrorCode;
 import com.example.naejango.global.common.exception.WebSocketException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
 
 
 /**
  * 구독 정보를 관리하는 클래스
  * 채널의 구독자 정보, 구독자의 구독 채널 정보,
+ * 구독, 구독 취소, 연결 종료 시의 변경은 SubscribeRepository 에서 한 번에(원자적으로) 처리합니다.
  */
 @Service
 @RequiredArgsConstructor
 public class SubscribeService {
 
     private final SubscribeRepository subscribeRepository;
-    private final ChatRepository chatRepository;
+    private final ChannelMembershipCache channelMembershipCache;
+    private final ChatTopicRegistry chatTopicRegistry;
 
-    @Transactional
     public void disconnect(String sessionId) {
-        // 유저 로드
-        Long userId = subscribeRepository.findUserIdBySessionId(sessionId)
-                .orElseThrow(() -> new WebSocketException(ErrorCode.SESSION_NOT_FOUND));
-
-        // 유저가 구독하고 있는 채널Id 로드
-        Set<Long> channelIds = subscribeRepository.findSubscribeChannelIdBySessionId(sessionId);
-
-        // 유저가 구독한 채널에서 유저를 삭제합니다.
-        channelIds.forEach(channelId -> subscribeRepository.deleteSubscriberFromChannel(userId, channelId));
-
-        // 구독 ID 의 채널 정보를 삭제합니다.
-        subscribeRepository.findSubscriptionIdBySessionId(sessionId)
-                .forEach(subscribeRepository::deleteSubscriptionId);
+        if (!cleanup(sessionId)) throw new WebSocketException(ErrorCode.SESSION_NOT_FOUND);
+    }
 
-        // 세션의 구독 정보를 삭제합니다.
-        subscribeRepository.deleteAllSubscriptionsBySessionId(sessionId);
+    /**
+     * 세션의 구독 정보를 정리합니다. 이미 정리된 세션이면 false 를 반환합니다.
+     * 연결 종료 이벤트, 고아 세션 정리처럼 세션이 이미 삭제되었을 수 있는 경우에 사용합니다.
+     */
+    public boolean cleanup(String sessionId) {
+        // 이 서버의 Redis 토픽 구독을 해제합니다.
+        chatTopicRegistry.disconnect(sessionId);
 
-        // 세션의 유저 정보를 삭제합니다.
-        subscribeRepository.deleteSessionId(sessionId);
+        // 세션의 모든 구독 정보와 유저 정보를 한 번에 삭제합니다.
+        return subscribeRepository.disconnect(sessionId).isPresent();
     }
 
-    @Transactional
     public void unsubscribe(String sessionId, String subscriptionId) {
-        // 유저 로드
-        Long userId = subscribeRepository.findUserIdBySessionId(sessionId)
-                .orElseThrow(() -> new WebSocketException(ErrorCode.USER_NOT_FOUND));
+        // 이 서버의 Redis 토픽 구독을 해제합니다.
+        chatTopicRegistry.unsubscribe(sessionId, subscriptionId);
 
-        // 구독 채널 로드
-        Long channelId = subscribeRepository.findChannelIdBySubscriptionId(subscriptionId)
-                .orElseThrow(() -> new WebSocketException(ErrorCode.SUBSCRIPTION_NOT_FOUND));
+        // 구독 ID, 채널의 구독자, 세션의 구독 ID 를 한 번에 삭제합니다.
+        if (subscribeRepository.unsubscribe(sessionId, subscriptionId).isPresent()) return;
 
-        // 구독 ID 삭제
-        subscribeRepository.deleteSubscriptionId(subscriptionId);
-
-        // 채널에서 구독자 삭제
-        subscribeRepository.deleteSubscriberFromChannel(userId, channelId);
-
-        // 세션에서 구독 Id 삭제
-        subscribeRepository.deleteSubscriptionIdBySessionId(subscriptionId, sessionId);
+        // 삭제하지 못한 경우 원인을 확인합니다.
+        subscribeRepository.findUserIdBySessionId(sessionId)
+                .orElseThrow(() -> new WebSocketException(ErrorCode.USER_NOT_FOUND));
+        throw new WebSocketException(ErrorCode.SUBSCRIPTION_NOT_FOUND);
     }
 
-    @Transactional
     public void subscribe(SubScribeCommandDto commandDto) {
         // 구독 권한 확인
         Long channelId = commandDto.getChannelId();
         Long userId = commandDto.getUserId();
-        if(chatRepository.findChatByChannelIdAndOwnerId(channelId, userId).isEmpty()){
+        if(!channelMembershipCache.find(channelId).map(membership -> membership.isMember(userId)).orElse(false)){
             throw new WebSocketException(ErrorCode.UNAUTHORIZED_SUBSCRIBE_REQUEST);
         }
 
@@ -81,22 +67,17 @@ public class SubscribeService {
             throw new WebSocketException(ErrorCode.UNIDENTIFIED_DESTINATION);
         }
 
-        // 채널에 유저를 등록합니다.
-        subscribeRepository.setSubscriberToChannel(userId, channelId);
-
-        // 구독 id 가 어떤 채널을 가리키는지 저장합니다.
+        // 채널에 유저를, 구독 id 에 채널을, 세션에 구독 id 를 한 번에 등록합니다.
         String subscriptionId = commandDto.getSubscriptionId();
-        subscribeRepository.setSubscriptionIdToChannel(subscriptionId, channelId);
-
-        // 세션에 구독 id 를 등록합니다.
         String sessionId = commandDto.getSessionId();
-        subscribeRepository.saveSubscriptionIdBySessionId(subscriptionId, sessionId);
+        subscribeRepository.subscribe(userId, channelId, subscriptionId, sessionId);
 
+        // 이 서버가 채널의 Redis 토픽을 수신하도록 합니다.
+        chatTopicRegistry.subscribe(sessionId, subscriptionId, channelId);
     }
 
     public boolean isSubscriber(Long userId, Long channelId) {
-        Set<Long> subscribers = subscribeRepository.findSubscribersByChannelId(channelId);
-        return subscribers.contains(userId);
+        return subscribeRepository.isSubscriber(userId, channelId);
     }
 
 }
@@ -0,0 +1,99 @@
+package com.example.naejango.domain.chat.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * clientInboundChannel 의 메세지를 채널 별로 순서를 지키며 병렬로 처리하는 Executor
+ * 채팅 메세지(SEND)는 channelId 를 해싱하여 고정된 수의 단일 스레드 lane(PartitionedExecutor) 에 배정하므로,
+ * 같은 채널의 메세지는 항상 같은 lane 에서 도착한 순서대로 처리되고 서로 다른 채널은 다른 lane 에서 동시에 처리됩니다.
+ * 그 외의 메세지(CONNECT, SUBSCRIBE, UNSUBSCRIBE, DISCONNECT 등)는 sessionId 로 lane 을 배정합니다.
+ * 구독 관련 메세지를 채널 lane 에 배정하면 DISCONNECT, UNSUBSCRIBE 가 SUBSCRIBE 보다 먼저 처리되어
+ * 브로커에 구독이 남을 수 있으므로, 한 세션의 구독 관련 메세지는 모두 같은 lane 에서 순서대로 처리합니다.
+ *
+ * lane 의 대기열이 가득 차면 메세지를 보낸 스레드(웹소켓 세션)가 offerTimeout 동안 대기하며,
+ * 그래도 자리가 나지 않으면 메세지를 거부합니다.
+ */
+public class ChannelLaneTaskExecutor extends ThreadPoolTaskExecutor {
+    private static final String CHANNEL_DESTINATION = "/channel/";
+
+    private final int laneCount;
+    private final int queueCapacity;
+    private final long offerTimeoutMillis;
+    private final MeterRegistry meterRegistry;
+    private PartitionedExecutor lanes;
+
+    public ChannelLaneTaskExecutor(int laneCount, int queueCapacity, long offerTimeoutMillis, MeterRegistry meterRegistry) {
+        this.laneCount = laneCount;
+        this.queueCapacity = queueCapacity;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.meterRegistry = meterRegistry;
+        // lane 에 배정할 수 없는 작업만 처리하는 기본 스레드풀입니다.
+        setCorePoolSize(1);
+        setMaxPoolSize(1);
+        setThreadNamePrefix("chat-inbound-");
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        lanes = new PartitionedExecutor("chat-inbound-lane-", laneCount, queueCapacity, offerTimeoutMillis,
+                meterRegistry, "chat.inbound.lane");
+        return super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+    }
+
+    @Override
+    public void shutdown() {
+        if (lanes != null) lanes.shutdown();
+        super.shutdown();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (lanes == null || !(task instanceof MessageHandlingRunnable)) {
+            super.execute(task);
+            return;
+        }
+        lanes.execute(partitionKeyOf(((MessageHandlingRunnable) task).getMessage()), task);
+    }
+
+    /** 메세지가 배정될 lane 의 번호 */
+    public int laneOf(Message<?> message) {
+        return lanes.laneOf(partitionKeyOf(message));
+    }
+
+    private static long partitionKeyOf(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE) {
+            long channelId = channelIdOf(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+            if (channelId >= 0) return channelId;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        return sessionId == null ? 0 : sessionId.hashCode();
+    }
+
+    /** /pub/channel/{channelId}, /sub/channel/{channelId} 에서 channelId 를 찾습니다. 없으면 -1 을 반환합니다. */
+    static long channelIdOf(String destination) {
+        if (destination == null) return -1;
+        int start = destination.indexOf(CHANNEL_DESTINATION);
+        if (start < 0) return -1;
+        start += CHANNEL_DESTINATION.length();
+
+        long channelId = 0;
+        int index = start;
+        while (index < destination.length() && index - start < 18) {
+            char c = destination.charAt(index);
+            if (c < '0' || c > '9') break;
+            channelId = channelId * 10 + (c - '0');
+            index++;
+        }
+        if (index == start || (index < destination.length() && destination.charAt(index) != '/')) return -1;
+        return channelId;
+    }
+}
@@ -1,33 +1,39 @@
 package com.example.naejango.domain.chat.config;
 
-import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.application.websocket.ChatBusFrame;
+import com.example.naejango.domain.chat.application.websocket.ChatMessageCodec;
 import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
-import com.example.naejango.global.common.exception.ErrorCode;
-import com.example.naejango.global.common.exception.WebSocketException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
-import org.springframework.data.redis.listener.PatternTopic;
 import org.springframework.data.redis.listener.RedisMessageListenerContainer;
-import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
+import javax.annotation.PreDestroy;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.example.naejango.domain.chat.domain.MessageType.*;
 
 
 /**
  * 메세지를 수신하고 구독된 사용자들에게 메세지를 보내주는 메시지 리스너 입니다.
+ * 이 서버가 발행한 메세지는 발행할 때 이미 보냈으므로 다시 보내지 않습니다.
+ * 수신한 메세지는 channelId 별 lane(PartitionedExecutor) 에서 발송하므로 같은 채널의 메세지는 수신한 순서대로 발송됩니다.
+ * lane 의 대기열이 가득 차면 기다리지 않고 메세지를 버립니다.
+ * 리스너는 Redis 의 I/O 스레드에서 호출되므로, 이 스레드를 막으면 같은 연결을 쓰는 구독 확인과 캐시 invalidate 도 멈추기 때문입니다.
+ * 버려진 메세지는 chat.listener.lane.rejected 로 집계되며, 저장된 메세지 조회로 확인할 수 있습니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class ChatMessageListener implements MessageListener {
     /*
      * 메세지를 실제로 발행해 주는 객체 입니다.
@@ -35,16 +41,57 @@ public class ChatMessageListener implements MessageListener {
      * 스프링 웹소켓의 심플 메세지 브로커에 따라서 메세지를 전송합니다.
      */
     private final SimpMessagingTemplate messageSender;
-    private final ObjectMapper objectMapper;
+    private final ChatMessageCodec chatMessageCodec;
+    private final PartitionedExecutor dispatchExecutor;
+    private final long nodeTag;
+    private final Timer dispatchLatency;
+    private final Timer remoteDeliveryLatency;
+    private final Counter echoSkippedCounter;
+
+    public ChatMessageListener(SimpMessagingTemplate messageSender,
+                               ChatMessageCodec chatMessageCodec,
+                               ChatNodeId chatNodeId,
+                               MeterRegistry meterRegistry,
+                               @Value("${chat.listener.lanes:4}") int lanes,
+                               @Value("${chat.listener.lane-queue-capacity:10000}") int queueCapacity) {
+        this.messageSender = messageSender;
+        this.chatMessageCodec = chatMessageCodec;
+        this.dispatchExecutor = new PartitionedExecutor("chat-listener-lane-", lanes, queueCapacity, 0,
+                meterRegistry, "chat.listener.lane");
+        this.nodeTag = chatNodeId.getTag();
+        this.dispatchLatency = meterRegistry.timer("chat.listener.dispatch.latency");
+        // 다른 서버의 발행 시각부터 측정하므로 서버 간 시계 차이가 포함됩니다.
+        this.remoteDeliveryLatency = meterRegistry.timer("chat.delivery.latency", "path", "remote");
+        this.echoSkippedCounter = meterRegistry.counter("chat.listener.echo.skipped");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatchExecutor.shutdown();
+    }
 
     @Override
     public void onMessage(Message message, byte[] pattern) {
+        long receivedAt = System.nanoTime();
+        byte[] frame = message.getBody();
+        boolean hasOrigin = ChatBusFrame.hasOrigin(frame);
+        if (hasOrigin && ChatBusFrame.originOf(frame) == nodeTag) {
+            echoSkippedCounter.increment();
+            return;
+        }
+
+        long publishedAt = hasOrigin ? ChatBusFrame.publishedAtOf(frame) : 0;
+        WebSocketMessageSendDto sendDto = chatMessageCodec.decode(ChatBusFrame.payloadOf(frame));
         try {
-            MessagePublishCommandDto commandDto = objectMapper.readValue(message.getBody(), MessagePublishCommandDto.class);
-            WebSocketMessageSendDto sendDto = commandDto.toSendDto();
-            messageSender.convertAndSend(SUBSCRIBE_CHANNEL.getEndpointPrefix() + commandDto.getChannelId(), sendDto);
-        } catch (IOException e) {
-            throw new WebSocketException(ErrorCode.FORGED_REQUEST);
+            dispatchExecutor.execute(sendDto.getChannelId(), () -> {
+                messageSender.convertAndSend(SUBSCRIBE_CHANNEL.getEndpointPrefix() + sendDto.getChannelId(), sendDto);
+                dispatchLatency.record(System.nanoTime() - receivedAt, TimeUnit.NANOSECONDS);
+                if (hasOrigin) {
+                    remoteDeliveryLatency.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.warn("채팅 메세지 발송 대기열이 가득 차 메세지를 버립니다. channelId : {}", sendDto.getChannelId());
         }
     }
 
@@ -53,13 +100,16 @@ public class ChatMessageListener implements MessageListener {
      * RedisMessageListenerContainer 는 Redis 의 Pub/Sub 을 관리하는 컨테이너로,
      * 구독 대상이 되는 채널 (ChannelTopic 클래스) 과 해당 채널에 메세지가 발행되었을 때
      * 이를 핸들링 하는 메서드(MessageListener) 를 등록해 줄 수 있습니다.
+     * 채팅 메세지 토픽은 구독자가 생길 때 ChatTopicRegistry 가 채널 단위로 등록합니다.
+     * 기본 TaskExecutor(SimpleAsyncTaskExecutor) 는 메세지마다 스레드를 생성하므로,
+     * 리스너를 수신 스레드에서 바로 호출하고 오래 걸리는 발송은 각 리스너가 기다리지 않고 lane 에 넘깁니다.
      * @param redisConnectionFactory Redis 서버와의 연결 정보
      */
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory redisConnectionFactory) {
         RedisMessageListenerContainer listenerContainer = new RedisMessageListenerContainer();
         listenerContainer.setConnectionFactory(redisConnectionFactory);
-        listenerContainer.addMessageListener(new MessageListenerAdapter(this), new PatternTopic("chat"));
+        listenerContainer.setTaskExecutor(new SyncTaskExecutor());
         return listenerContainer;
     }
 
@@ -0,0 +1,31 @@
+package com.example.naejango.domain.chat.config;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 채팅 서버(노드)를 구분하는 id 입니다.
+ * chat.node-id 가 없으면 실행 시 마다 새로 생성하므로, 재시작한 서버는 다른 노드로 취급됩니다.
+ * tag 는 메세지마다 붙이기 위한 value 의 64bit 요약입니다.
+ */
+@Getter
+@Component
+public class ChatNodeId {
+    private final String value;
+    private final long tag;
+
+    public ChatNodeId(@Value("${chat.node-id:}") String configured) {
+        this.value = configured == null || configured.isBlank() ? UUID.randomUUID().toString() : configured;
+        UUID digest = UUID.nameUUIDFromBytes(value.getBytes(StandardCharsets.UTF_8));
+        this.tag = digest.getMostSignificantBits() ^ digest.getLeastSignificantBits();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
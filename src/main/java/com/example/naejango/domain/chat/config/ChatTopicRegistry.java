@@ -0,0 +1,133 @@
+package com.example.naejango.domain.chat.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.adapter.MessageListenerAdapter;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채팅 메세지가 발행되는 Redis 토픽을 채널 단위로 나누고,
+ * 이 서버에 STOMP 구독자가 있는 채널의 토픽만 구독합니다.
+ * 각 서버는 전체 메세지가 아니라 자신에게 연결된 구독자가 있는 채널의 메세지만 수신합니다.
+ *
+ * buckets 가 0 이면 채널마다 토픽(chat:{channelId})을 사용하고,
+ * 0 보다 크면 channelId 를 buckets 개의 토픽(chat:bucket:{n})으로 나누어 Redis 의 구독 수를 제한합니다.
+ * 토픽은 구독(subscriptionId) 수를 세어 첫 구독 시 구독하고, 마지막 구독이 해제되면 구독을 해제합니다.
+ * Redis 구독/해제는 응답을 기다리므로 맵의 compute 밖에서 수행하며, 같은 토픽의 구독/해제는 토픽 단위로 순서대로 수행합니다.
+ */
+@Component
+public class ChatTopicRegistry {
+    private static final String TOPIC_PREFIX = "chat:";
+    private static final String BUCKET_TOPIC_PREFIX = "chat:bucket:";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MessageListenerAdapter listenerAdapter;
+    private final boolean enabled;
+    private final int buckets;
+
+    /* 토픽 별 이 서버의 구독 상태 */
+    private final ConcurrentHashMap<String, TopicSubscription> topicSubscriptions = new ConcurrentHashMap<>();
+
+    /* 세션 별 구독 id -> channelId, 연결 종료 시 세션의 구독을 한 번에 해제합니다. */
+    private final ConcurrentHashMap<String, Map<String, Long>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    public ChatTopicRegistry(RedisMessageListenerContainer listenerContainer,
+                             ChatMessageListener chatMessageListener,
+                             @Value("${redis-config.websocket:false}") boolean enabled,
+                             @Value("${chat.redis-topic.buckets:0}") int buckets) {
+        this.listenerContainer = listenerContainer;
+        this.listenerAdapter = new MessageListenerAdapter(chatMessageListener);
+        this.listenerAdapter.afterPropertiesSet();
+        this.enabled = enabled;
+        this.buckets = buckets;
+    }
+
+    /** 채널의 메세지가 발행되는 토픽 이름 */
+    public String topicOf(Long channelId) {
+        if (buckets > 0) return BUCKET_TOPIC_PREFIX + Math.floorMod(channelId, buckets);
+        return TOPIC_PREFIX + channelId;
+    }
+
+    /** 세션의 구독을 등록합니다. 이 서버에서 해당 토픽의 첫 구독인 경우 토픽을 구독합니다. */
+    public void subscribe(String sessionId, String subscriptionId, Long channelId) {
+        if (!enabled) return;
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, channelId);
+        if (previous != null) release(previous);
+        retain(channelId);
+    }
+
+    /** 세션의 구독을 해제합니다. 이 서버에서 해당 토픽의 마지막 구독인 경우 토픽 구독을 해제합니다. */
+    public void unsubscribe(String sessionId, String subscriptionId) {
+        if (!enabled) return;
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) return;
+        Long channelId = subscriptions.remove(subscriptionId);
+        if (channelId != null) release(channelId);
+    }
+
+    /** 세션의 모든 구독을 해제합니다. */
+    public void disconnect(String sessionId) {
+        if (!enabled) return;
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions == null) return;
+        subscriptions.values().forEach(this::release);
+    }
+
+    /** 이 서버가 구독 중인 토픽 수 */
+    public int subscribedTopicCount() {
+        return topicSubscriptions.size();
+    }
+
+    private void retain(Long channelId) {
+        String topic = topicOf(channelId);
+        TopicSubscription subscription = topicSubscriptions.compute(topic, (key, existing) -> {
+            TopicSubscription current = existing == null ? new TopicSubscription() : existing;
+            current.refCount++;
+            return current;
+        });
+        sync(topic, subscription);
+    }
+
+    private void release(Long channelId) {
+        String topic = topicOf(channelId);
+        TopicSubscription subscription = topicSubscriptions.computeIfPresent(topic, (key, existing) -> {
+            existing.refCount--;
+            return existing;
+        });
+        if (subscription != null) sync(topic, subscription);
+    }
+
+    /**
+     * 구독 수에 맞추어 토픽을 구독하거나 해제합니다.
+     * 구독 수는 compute 안에서만 바꾸고, Redis 요청은 토픽의 lock 을 잡고 수행하여 동시에 들어온 구독과 해제의 순서가 뒤바뀌지 않도록 합니다.
+     * 구독을 해제한 토픽은 그 사이 새 구독이 없는 경우에만 맵에서 삭제합니다.
+     */
+    private void sync(String topic, TopicSubscription subscription) {
+        synchronized (subscription) {
+            boolean needed = subscription.refCount > 0;
+            if (needed && !subscription.subscribed) {
+                listenerContainer.addMessageListener(listenerAdapter, new ChannelTopic(topic));
+                subscription.subscribed = true;
+            } else if (!needed && subscription.subscribed) {
+                listenerContainer.removeMessageListener(listenerAdapter, new ChannelTopic(topic));
+                subscription.subscribed = false;
+            }
+            if (!needed) {
+                topicSubscriptions.computeIfPresent(topic, (key, existing) ->
+                        existing == subscription && existing.refCount == 0 ? null : existing);
+            }
+        }
+    }
+
+    private static final class TopicSubscription {
+        /* topicSubscriptions 의 compute 안에서만 변경합니다. */
+        private volatile int refCount;
+        /* TopicSubscription 의 lock 을 잡고 변경합니다. */
+        private boolean subscribed;
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.naejango.domain.chat.config;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.broker.AbstractSubscriptionRegistry;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.util.PathMatcher;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SimpleBroker 의 구독 정보를 destination 으로 바로 찾는 SubscriptionRegistry
+ * 기본 DefaultSubscriptionRegistry 는 destination 별 조회 결과를 최대 1024 개까지 캐싱하고,
+ * 캐시에 없으면 모든 구독의 destination 패턴과 비교합니다. 채널이 많아지면 캐시가 계속 교체되어 메세지마다 전체 구독을 비교하게 됩니다.
+ * 채팅 destination(/sub/channel/{channelId}) 은 패턴이 없는 고정 문자열이므로 destination 을 key 로 구독 목록을 저장합니다.
+ *
+ * destination 별 구독 목록(sessionId -> subscriptionId)은 구독/구독 취소 시 새로 만들어 교체하므로(copy-on-write),
+ * 메세지 발송 시에는 저장된 목록을 복사 없이 그대로 반환합니다. 반환된 목록은 변경하지 않아야 합니다.
+ * 패턴(*, ?, {}) 으로 구독한 경우에만 메세지마다 패턴을 비교하며, selector 헤더는 지원하지 않습니다.
+ *
+ * 세션의 구독 정보와 destination 별 구독 목록은 sessionId 의 compute 안에서 함께 변경하므로,
+ * 같은 세션의 구독과 연결 종료가 동시에 처리되어도 이미 종료된 세션의 구독이 destination 에 남지 않습니다.
+ */
+public class DestinationSubscriptionRegistry extends AbstractSubscriptionRegistry {
+    private static final MultiValueMap<String, String> EMPTY =
+            CollectionUtils.unmodifiableMultiValueMap(new LinkedMultiValueMap<>(0));
+
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    /* destination -> (sessionId -> subscriptionId), 패턴이 아닌 destination */
+    private final ConcurrentHashMap<String, MultiValueMap<String, String>> destinationSubscriptions = new ConcurrentHashMap<>();
+
+    /* 패턴 destination -> (sessionId -> subscriptionId) */
+    private final ConcurrentHashMap<String, MultiValueMap<String, String>> patternSubscriptions = new ConcurrentHashMap<>();
+
+    /* sessionId -> (subscriptionId -> destination), 구독 취소와 연결 종료 시 사용합니다. sessionId 의 compute 안에서만 변경합니다. */
+    private final ConcurrentHashMap<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    @Override
+    protected void addSubscriptionInternal(String sessionId, String subscriptionId, String destination, Message<?> message) {
+        sessionSubscriptions.compute(sessionId, (key, subscriptions) -> {
+            Map<String, String> updated = subscriptions == null ? new HashMap<>() : subscriptions;
+            String previous = updated.put(subscriptionId, destination);
+            if (previous != null) remove(previous, sessionId, subscriptionId);
+            add(destination, sessionId, subscriptionId);
+            return updated;
+        });
+    }
+
+    @Override
+    protected void removeSubscriptionInternal(String sessionId, String subscriptionId, Message<?> message) {
+        sessionSubscriptions.computeIfPresent(sessionId, (key, subscriptions) -> {
+            String destination = subscriptions.remove(subscriptionId);
+            if (destination != null) remove(destination, sessionId, subscriptionId);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    @Override
+    public void unregisterAllSubscriptions(String sessionId) {
+        sessionSubscriptions.computeIfPresent(sessionId, (key, subscriptions) -> {
+            subscriptions.forEach((subscriptionId, destination) -> remove(destination, sessionId, subscriptionId));
+            return null;
+        });
+    }
+
+    @Override
+    protected MultiValueMap<String, String> findSubscriptionsInternal(String destination, Message<?> message) {
+        MultiValueMap<String, String> subscriptions = destinationSubscriptions.getOrDefault(destination, EMPTY);
+        if (patternSubscriptions.isEmpty()) return subscriptions;
+
+        LinkedMultiValueMap<String, String> result = new LinkedMultiValueMap<>();
+        subscriptions.forEach(result::addAll);
+        patternSubscriptions.forEach((pattern, patternSubscribers) -> {
+            if (pathMatcher.match(pattern, destination)) patternSubscribers.forEach(result::addAll);
+        });
+        return result;
+    }
+
+    /** 구독자가 있는 destination 수 */
+    public int destinationCount() {
+        return destinationSubscriptions.size() + patternSubscriptions.size();
+    }
+
+    private void add(String destination, String sessionId, String subscriptionId) {
+        subscriptionsOf(destination).compute(destination, (key, subscriptions) -> {
+            LinkedMultiValueMap<String, String> updated = subscriptions == null ? new LinkedMultiValueMap<>()
+                    : new LinkedMultiValueMap<>(subscriptions.size() + 1);
+            if (subscriptions != null) subscriptions.forEach((session, ids) -> updated.put(session, ids));
+            updated.put(sessionId, append(updated.get(sessionId), subscriptionId));
+            return updated;
+        });
+    }
+
+    private void remove(String destination, String sessionId, String subscriptionId) {
+        subscriptionsOf(destination).computeIfPresent(destination, (key, subscriptions) -> {
+            List<String> ids = subscriptions.get(sessionId);
+            if (ids == null || !ids.contains(subscriptionId)) return subscriptions;
+
+            LinkedMultiValueMap<String, String> updated = new LinkedMultiValueMap<>(subscriptions.size());
+            subscriptions.forEach((session, sessionIds) -> {
+                if (!session.equals(sessionId)) updated.put(session, sessionIds);
+            });
+            if (ids.size() > 1) {
+                List<String> remaining = new ArrayList<>(ids);
+                remaining.remove(subscriptionId);
+                updated.put(sessionId, List.copyOf(remaining));
+            }
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private ConcurrentHashMap<String, MultiValueMap<String, String>> subscriptionsOf(String destination) {
+        return pathMatcher.isPattern(destination) ? patternSubscriptions : destinationSubscriptions;
+    }
+
+    private static List<String> append(List<String> ids, String subscriptionId) {
+        if (ids == null) return List.of(subscriptionId);
+        List<String> appended = new ArrayList<>(ids);
+        appended.add(subscriptionId);
+        return List.copyOf(appended);
+    }
+}
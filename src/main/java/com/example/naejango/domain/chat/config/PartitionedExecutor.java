@@ -0,0 +1,87 @@
+package com.example.naejango.domain.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.*;
+
+/**
+ * key 를 해싱하여 고정된 수의 단일 스레드 lane 에 작업을 배정하는 Executor
+ * 같은 key 의 작업은 항상 같은 lane 에서 제출된 순서대로 실행되고, 서로 다른 key 의 작업은 병렬로 실행됩니다.
+ *
+ * lane 의 대기열은 크기가 제한되어 있으며, 가득 차면 작업을 제출한 스레드가 offerTimeout 동안 대기합니다.
+ * 그래도 자리가 나지 않으면 RejectedExecutionException 을 던집니다.
+ * 제출한 스레드에서 직접 실행하면 같은 key 의 순서가 바뀌므로 실행하지 않습니다.
+ *
+ * 메트릭 : {metricPrefix}.queue-depth{lane}, {metricPrefix}.rejected
+ */
+@Slf4j
+public class PartitionedExecutor {
+    private final ThreadPoolExecutor[] lanes;
+    private final long offerTimeoutMillis;
+    private final Counter rejectedCounter;
+
+    public PartitionedExecutor(String threadNamePrefix, int laneCount, int queueCapacity, long offerTimeoutMillis,
+                               MeterRegistry meterRegistry, String metricPrefix) {
+        if (laneCount < 1) throw new IllegalArgumentException("laneCount must be positive");
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.rejectedCounter = meterRegistry.counter(metricPrefix + ".rejected");
+        this.lanes = new ThreadPoolExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            lanes[i] = createLane(threadNamePrefix + i, queueCapacity);
+            meterRegistry.gaugeCollectionSize(metricPrefix + ".queue-depth", Tags.of("lane", String.valueOf(i)),
+                    lanes[i].getQueue());
+        }
+    }
+
+    public void execute(long key, Runnable task) {
+        lanes[laneOf(key)].execute(() -> runSafely(task));
+    }
+
+    public int laneOf(long key) {
+        return (int) Math.floorMod(key, (long) lanes.length);
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) lane.shutdown();
+    }
+
+    private ThreadPoolExecutor createLane(String threadName, int queueCapacity) {
+        ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                this::waitForCapacity);
+        lane.prestartCoreThread();
+        return lane;
+    }
+
+    /* lane 의 대기열에 자리가 날 때까지 기다립니다. */
+    private void waitForCapacity(Runnable task, ThreadPoolExecutor lane) {
+        try {
+            if (!lane.isShutdown() && lane.getQueue().offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) return;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        rejectedCounter.increment();
+        throw new RejectedExecutionException("partitioned executor lane is full");
+    }
+
+    /* 작업에서 발생한 예외로 lane 의 스레드가 교체되지 않도록 합니다. */
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("작업 실행 실패", e);
+        }
+    }
+}
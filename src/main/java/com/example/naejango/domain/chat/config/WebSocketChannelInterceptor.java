@@ -1,5 +1,6 @@
 package com.example.naejango.domain.chat.config;
 
+import com.example.naejango.domain.chat.application.websocket.SessionSweeper;
 import com.example.naejango.domain.chat.application.websocket.SubscribeService;
 import com.example.naejango.domain.chat.repository.SubscribeRepository;
 import com.example.naejango.global.auth.jwt.JwtAuthenticator;
@@ -13,32 +14,45 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
+import java.security.Principal;
 import java.util.Collections;
+import java.util.Map;
 
 @SuppressWarnings("NullableProblems")
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
+    /* CONNECT 시 인증한 Authentication 을 웹소켓 세션 속성에 저장하는 key */
+    static final String PRINCIPAL_ATTRIBUTE = "chat.principal";
+
     private final SubscribeService subscribeService;
     private final JwtAuthenticator jwtAuthenticator;
     private final SubscribeRepository subscribeRepository;
+    private final SessionSweeper sessionSweeper;
 
     /**
      * 웹소켓 EndPoint 로 전송되는 메세지를 Intercept 하여
      * 사용자 보안 인증(Token 검사), 구독 취소 등의 기능을 수행합니다.
      * @param message intercept 한 메세지 정보를 담고 있습니다.
      * @param channel 또다른 message 를 보낼 수 있는 창구 입니다.
+     * 인증 정보는 CONNECT 시 한 번 만들어 웹소켓 세션 속성에 저장하고, 이후의 메세지에서는 세션 속성에서 꺼내 사용합니다.
      * @return 메서드 로직을 거친 message 를 반환합니다. null 인 경우 메세지는 전송되지 않습니다.
      */
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
-        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
-        accessor.setLeaveMutable(true);
+        // 웹소켓 세션에서 만든 메세지는 헤더를 변경할 수 있으므로, 복사하지 않고 그대로 사용합니다.
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        boolean copied = accessor == null || !accessor.isMutable();
+        if (copied) {
+            accessor = StompHeaderAccessor.wrap(message);
+            accessor.setLeaveMutable(true);
+        }
 
         /* 이미 인증된 회원인 경우 Authentication 객체를 넣어줍니다. */
         authenticate(accessor);
@@ -51,9 +65,17 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
             // 인증 처리
             Authentication authentication = jwtAuthenticator.authenticateWebSocketRequest(accessor);
+            Long userId = (Long) authentication.getPrincipal();
 
-            // 인증 객체를 sessionId 에 저장합니다.
-            subscribeRepository.saveUserIdBySessionId((Long) authentication.getPrincipal(), accessor.getSessionId());
+            // 인증 객체를 sessionId 에 저장합니다. 저장 전에 연결된 세션으로 등록하여 고아 세션 정리 대상에서 제외합니다.
+            sessionSweeper.register(accessor.getSessionId());
+            subscribeRepository.saveUserIdBySessionId(userId, accessor.getSessionId());
+
+            // 이후의 메세지에서 사용할 인증 객체를 세션 속성에 저장합니다.
+            Principal principal = chatUser(userId);
+            Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+            if (sessionAttributes != null) sessionAttributes.put(PRINCIPAL_ATTRIBUTE, principal);
+            accessor.setUser(principal);
         }
 
         /* 구독 취소 요청 */
@@ -70,15 +92,26 @@ public class WebSocketChannelInterceptor implements ChannelInterceptor {
             subscribeService.disconnect(accessor.getSessionId());
         }
 
-        return generateMessage(message, accessor);
+        return copied ? generateMessage(message, accessor) : message;
     }
 
-    /* sessionId 로 User 를 로드합니다. */
+    /*
+     * 세션 속성에 저장된 인증 객체를 넣어줍니다.
+     * 세션 속성이 없는 경우에만 sessionId 로 User 를 로드합니다.
+     */
     private void authenticate(StompHeaderAccessor accessor) {
-        String sessionId = accessor.getSessionId();
-        subscribeRepository.findUserIdBySessionId(sessionId).ifPresent
-                (userId -> accessor.setUser(new UsernamePasswordAuthenticationToken(userId,
-                        null, Collections.singletonList(() -> "Role_CHATUSER"))));
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            Object principal = sessionAttributes.get(PRINCIPAL_ATTRIBUTE);
+            if (principal != null && accessor.getUser() != principal) accessor.setUser((Principal) principal);
+            return;
+        }
+        subscribeRepository.findUserIdBySessionId(accessor.getSessionId())
+                .ifPresent(userId -> accessor.setUser(chatUser(userId)));
+    }
+
+    private static Authentication chatUser(Long userId) {
+        return new UsernamePasswordAuthenticationToken(userId, null, Collections.singletonList(() -> "Role_CHATUSER"));
     }
 
     /* message payload 와 accessor 의 header 정보를 조합하여 message 를 생성합니다. */
@@ -1,7 +1,11 @@
 package com.example.naejango.domain.chat.config;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -10,11 +14,28 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 
 @Configuration
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketChannelInterceptor webSocketChannelInterceptor;
     private final StompErrorHandler stompErrorHandler;
+    private final MeterRegistry meterRegistry;
+    private final int inboundLanes;
+    private final int inboundLaneQueueCapacity;
+    private final long inboundOfferTimeoutMillis;
+
+    public WebSocketMessageBrokerConfig(WebSocketChannelInterceptor webSocketChannelInterceptor,
+                                        StompErrorHandler stompErrorHandler,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${chat.inbound.lanes:8}") int inboundLanes,
+                                        @Value("${chat.inbound.lane-queue-capacity:1000}") int inboundLaneQueueCapacity,
+                                        @Value("${chat.inbound.offer-timeout-ms:1000}") long inboundOfferTimeoutMillis) {
+        this.webSocketChannelInterceptor = webSocketChannelInterceptor;
+        this.stompErrorHandler = stompErrorHandler;
+        this.meterRegistry = meterRegistry;
+        this.inboundLanes = inboundLanes;
+        this.inboundLaneQueueCapacity = inboundLaneQueueCapacity;
+        this.inboundOfferTimeoutMillis = inboundOfferTimeoutMillis;
+    }
 
     /**
      * stompJs websocket 연결을 위한 EndPoint
@@ -44,9 +65,33 @@ public class WebSocketMessageBrokerConfig implements WebSocketMessageBrokerConfi
         registry.setApplicationDestinationPrefixes("");
     }
 
+    /**
+     * SimpleBroker 가 destination 패턴 비교 대신 destination 으로 바로 구독자를 찾도록 SubscriptionRegistry 를 교체합니다.
+     * SimpleBrokerRegistration 에는 SubscriptionRegistry 설정이 없으므로 생성된 SimpleBrokerMessageHandler 에 설정합니다.
+     */
+    @Bean
+    public static BeanPostProcessor simpleBrokerSubscriptionRegistryPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof SimpleBrokerMessageHandler) {
+                    ((SimpleBrokerMessageHandler) bean).setSubscriptionRegistry(new DestinationSubscriptionRegistry());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /*
+     * 인터셉터(인증, 구독 취소, 연결 종료)는 메세지를 보낸 웹소켓 세션 스레드에서 실행되고,
+     * 이후의 처리(컨트롤러, 브로커)는 channelId 별 lane 에서 실행됩니다.
+     * 같은 채널의 메세지는 순서대로, 서로 다른 채널의 메세지는 병렬로 처리됩니다.
+     */
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(webSocketChannelInterceptor);
+        registration.taskExecutor(new ChannelLaneTaskExecutor(inboundLanes, inboundLaneQueueCapacity,
+                inboundOfferTimeoutMillis, meterRegistry));
     }
 
 }
\ No newline at end of file
@@ -5,14 +5,13 @@ import com.example.naejango.domain.user.domain.User;
 import lombok.*;
 
 import javax.persistence.*;
-import java.util.List;
 
 @Entity
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
 @Getter
-@ToString(exclude = {"channel", "owner", "chatMessages"})
+@ToString(exclude = {"channel", "owner"})
 public class Chat extends TimeAuditingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -29,10 +28,31 @@ public class Chat extends TimeAuditingEntity {
 
     private String title;
 
-    @OneToMany(mappedBy = "chat")
-    private List<ChatMessage> chatMessages;
+    /** 이 Chat 에서 조회할 수 있는 메세지의 하한 (이 id 보다 큰 메세지만 조회됩니다.) */
+    @Builder.Default
+    @Column(nullable = false)
+    private Long startMessageId = 0L;
+
+    /** 마지막으로 읽은 메세지 id, 이 id 보다 큰 채널의 메세지가 읽지 않은 메세지 입니다. */
+    @Builder.Default
+    @Column(nullable = false)
+    private Long lastReadMessageId = 0L;
 
     public void changeTitle(String title) {
         this.title = title;
     }
+
+    /**
+     * 채널에 이미 존재하는 메세지를 조회하지 않도록 시작 지점을 설정합니다.
+     * 시작 지점 이전의 메세지는 읽은 것으로 간주합니다.
+     */
+    public void startFrom(Long messageId) {
+        this.startMessageId = messageId;
+        this.lastReadMessageId = messageId;
+    }
+
+    /** messageId 까지 메세지를 읽음 처리 합니다. */
+    public void readMessage(Long messageId) {
+        if (messageId > this.lastReadMessageId) this.lastReadMessageId = messageId;
+    }
 }
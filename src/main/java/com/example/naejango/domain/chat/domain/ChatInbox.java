@@ -0,0 +1,55 @@
+package com.example.naejango.domain.chat.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 목록 조회용 읽기 모델 입니다. Chat 당 하나의 row 를 가집니다.
+ * 안 읽은 메세지 수, 마지막 메세지, 마지막 활동 시각을 미리 계산해 두어
+ * 채팅 목록을 (owner_id, last_activity) 인덱스 범위 조회 한 번으로 가져옵니다.
+ * 메세지 발행, 읽음 처리, 입장(Chat 생성), 퇴장(Chat 삭제) 시 함께 갱신되며,
+ * 기존 데이터는 ChatInboxRebuildRunner 로 다시 계산할 수 있습니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "chat_inbox", indexes = {
+        @Index(name = "idx_chat_inbox_owner_activity", columnList = "owner_id, last_activity"),
+        @Index(name = "idx_chat_inbox_channel_id", columnList = "channel_id")
+})
+public class ChatInbox {
+    @Id
+    @Column(name = "chat_id")
+    private Long chatId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer unreadCount = 0;
+
+    private String lastMessage;
+
+    @Column(name = "last_activity", nullable = false)
+    private LocalDateTime lastActivity;
+
+    /** 새로 생성된 Chat 의 inbox 를 만듭니다. */
+    public static ChatInbox of(Chat chat) {
+        return ChatInbox.builder()
+                .chatId(chat.getId())
+                .ownerId(chat.getOwner().getId())
+                .channelId(chat.getChannel().getId())
+                .lastMessage(chat.getChannel().getLastMessage())
+                .lastActivity(LocalDateTime.now())
+                .build();
+    }
+}
@@ -4,14 +4,14 @@ import com.example.naejango.domain.common.TimeAuditingEntity;
 import lombok.*;
 
 import javax.persistence.*;
-import java.util.List;
 
 @Entity
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@ToString(exclude = {"chatMessages", "channel"})
+@ToString(exclude = {"channel"})
+@Table(indexes = @Index(name = "idx_message_channel_id", columnList = "channel_id, message_id"))
 public class Message extends TimeAuditingEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,9 +24,6 @@ public class Message extends TimeAuditingEntity {
 
     private String content;
 
-    @OneToMany(mappedBy = "message")
-    private List<ChatMessage> chatMessages;
-
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "channel_id")
     private Channel channel;
@@ -0,0 +1,36 @@
+package com.example.naejango.domain.chat.domain;
+
+import lombok.*;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 보관(cold) 영역으로 옮겨진 메세지 입니다.
+ * 종료된 채널의 메세지와 보관 기간이 지난 메세지가 MessageArchiveService 에 의해 message 테이블에서 옮겨집니다.
+ * 원래의 message_id 를 그대로 사용하며, 더 이상 수정되지 않으므로 수정 시각과 채널 FK 없이 저장합니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@ToString
+@Table(name = "message_archive", indexes = @Index(name = "idx_message_archive_channel_id", columnList = "channel_id, message_id"))
+public class MessageArchive {
+    @Id
+    @Column(name = "message_id")
+    private Long id;
+
+    private MessageType messageType;
+
+    private Long senderId;
+
+    private String content;
+
+    @Column(name = "channel_id", nullable = false)
+    private Long channelId;
+
+    @Column(name = "created_date")
+    private LocalDateTime createdDate;
+}
@@ -0,0 +1,16 @@
+package com.example.naejango.domain.chat.dto;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ChannelLastMessageDto {
+    private Long messageId;
+    private String content;
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,58 @@
+package com.example.naejango.domain.chat.dto;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 채널의 종료 여부와 참여자 정보를 담는 캐시용 객체입니다.
+ * 참여자의 userId 를 정렬된 long 배열로, 같은 위치에 해당 유저의 chatId 를 저장합니다.
+ * 생성 이후 변경되지 않습니다.
+ */
+public class ChannelMembershipDto {
+    @Getter
+    private final Long channelId;
+    private final boolean closed;
+    private final long[] userIds;
+    private final long[] chatIds;
+
+    public ChannelMembershipDto(Long channelId, boolean closed, List<ChatOwnerDto> members) {
+        this.channelId = channelId;
+        this.closed = closed;
+        long[][] sorted = members.stream()
+                .map(member -> new long[]{member.getOwnerId(), member.getChatId()})
+                .sorted((a, b) -> Long.compare(a[0], b[0]))
+                .toArray(long[][]::new);
+        this.userIds = new long[sorted.length];
+        this.chatIds = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            userIds[i] = sorted[i][0];
+            chatIds[i] = sorted[i][1];
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public boolean isMember(long userId) {
+        return Arrays.binarySearch(userIds, userId) >= 0;
+    }
+
+    /** 유저의 chatId 를 반환합니다. 참여자가 아닌 경우 null 을 반환합니다. */
+    public Long findChatId(long userId) {
+        int index = Arrays.binarySearch(userIds, userId);
+        return index < 0 ? null : chatIds[index];
+    }
+
+    /** 참여자의 userId 를 오름차순으로 순회합니다. */
+    public void forEachMember(LongConsumer action) {
+        for (long userId : userIds) action.accept(userId);
+    }
+
+    public int size() {
+        return userIds.length;
+    }
+}
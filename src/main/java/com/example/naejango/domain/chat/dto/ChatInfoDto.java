@@ -3,6 +3,7 @@ package com.example.naejango.domain.chat.dto;
 import com.example.naejango.domain.chat.domain.Channel;
 import com.example.naejango.domain.chat.domain.ChannelType;
 import com.example.naejango.domain.chat.domain.Chat;
+import com.example.naejango.domain.chat.domain.ChatInbox;
 import com.example.naejango.domain.chat.domain.GroupChannel;
 import lombok.*;
 
@@ -38,4 +39,10 @@ public class ChatInfoDto {
         this.lastChatAt = channel.getLastModifiedDate();
     }
 
+    public ChatInfoDto(Chat chat, Channel channel, ChatInbox inbox) {
+        this(chat, channel, inbox.getUnreadCount());
+        this.lastMessage = inbox.getLastMessage();
+        this.lastChatAt = inbox.getLastActivity();
+    }
+
 }
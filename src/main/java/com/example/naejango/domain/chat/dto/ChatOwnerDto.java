@@ -0,0 +1,13 @@
+package com.example.naejango.domain.chat.dto;
+
+import lombok.*;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@ToString
+public class ChatOwnerDto {
+    private Long chatId;
+    private Long ownerId;
+}
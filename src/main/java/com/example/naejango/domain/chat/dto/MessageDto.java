@@ -1,6 +1,7 @@
 package com.example.naejango.domain.chat.dto;
 
 import com.example.naejango.domain.chat.domain.Message;
+import com.example.naejango.domain.chat.domain.MessageArchive;
 import com.example.naejango.domain.chat.domain.MessageType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,4 +30,13 @@ public class MessageDto {
         this.content = message.getContent();
         this.sentAt = message.getCreatedDate();
     }
+
+    public MessageDto(MessageArchive message) {
+        this.messageId = message.getId();
+        this.channelId = message.getChannelId();
+        this.senderId = message.getSenderId();
+        this.messageType = message.getMessageType();
+        this.content = message.getContent();
+        this.sentAt = message.getCreatedDate();
+    }
 }
@@ -0,0 +1,126 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.dto.ChannelLastMessageDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 채널의 마지막 메세지를 Redis 에 저장합니다.
+ * 메세지 발송 시 마다 channel row 를 수정하지 않고 이 곳에 기록한 뒤,
+ * ChannelLastMessageFlusher 가 변경된 채널(dirty set)만 주기적으로 channel 테이블에 반영합니다.
+ * 채팅 목록 조회 시에는 이 곳의 값을 우선하여 보여줍니다.
+ *
+ * key : channel:last-message:{channelId}, value : {messageId}|{보낸 시각(epoch millis)}|{내용}
+ */
+@Slf4j
+@Repository
+public class ChannelLastMessageStore {
+    private static final String KEY_PREFIX = "channel:last-message:";
+    private static final String DIRTY_KEY = "channel:last-message:dirty";
+
+    /* 이미 저장된 값의 messageId 가 더 크면 덮어쓰지 않습니다. (여러 서버에서 동시에 발행된 경우) */
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>(
+            "local current = redis.call('GET', KEYS[1]) " +
+            "if current then " +
+            "  local currentId = tonumber(string.match(current, '^(%d+)|')) " +
+            "  if currentId and currentId >= tonumber(ARGV[1]) then return 0 end " +
+            "end " +
+            "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) " +
+            "redis.call('SADD', KEYS[2], ARGV[4]) " +
+            "return 1", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final long ttlSeconds;
+
+    public ChannelLastMessageStore(StringRedisTemplate stringRedisTemplate,
+                                   @Value("${chat.last-message.ttl-seconds:86400}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    /**
+     * 채널의 마지막 메세지를 기록합니다.
+     * 트랜잭션 안에서 호출된 경우 커밋 이후에 기록하여, 롤백된 메세지가 보이지 않도록 합니다.
+     */
+    public void update(Long channelId, ChannelLastMessageDto lastMessage) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    write(channelId, lastMessage);
+                }
+            });
+            return;
+        }
+        write(channelId, lastMessage);
+    }
+
+    /** 채널들의 마지막 메세지를 한 번에 조회합니다. 기록이 없는 채널은 결과에 포함되지 않습니다. */
+    public Map<Long, ChannelLastMessageDto> findAll(Collection<Long> channelIds) {
+        if (channelIds.isEmpty()) return Collections.emptyMap();
+        List<Long> ids = new ArrayList<>(channelIds);
+        List<String> values = stringRedisTemplate.opsForValue()
+                .multiGet(ids.stream().map(ChannelLastMessageStore::key).collect(Collectors.toList()));
+
+        Map<Long, ChannelLastMessageDto> result = new HashMap<>();
+        if (values == null) return result;
+        for (int i = 0; i < ids.size(); i++) {
+            ChannelLastMessageDto decoded = decode(values.get(i));
+            if (decoded != null) result.put(ids.get(i), decoded);
+        }
+        return result;
+    }
+
+    /** 반영이 필요한 채널을 최대 count 개 꺼냅니다. */
+    public List<Long> popDirty(int count) {
+        List<String> popped = stringRedisTemplate.opsForSet().pop(DIRTY_KEY, count);
+        if (popped == null) return Collections.emptyList();
+        return popped.stream().map(Long::valueOf).collect(Collectors.toList());
+    }
+
+    /** 반영에 실패한 채널을 다시 반영 대상에 넣습니다. */
+    public void markDirty(Collection<Long> channelIds) {
+        if (channelIds.isEmpty()) return;
+        stringRedisTemplate.opsForSet().add(DIRTY_KEY, channelIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    private void write(Long channelId, ChannelLastMessageDto lastMessage) {
+        try {
+            stringRedisTemplate.execute(UPDATE_SCRIPT, List.of(key(channelId), DIRTY_KEY),
+                    String.valueOf(lastMessage.getMessageId()), encode(lastMessage),
+                    String.valueOf(ttlSeconds), String.valueOf(channelId));
+        } catch (RuntimeException e) {
+            log.error("채널 마지막 메세지 기록 실패 : {}", channelId, e);
+        }
+    }
+
+    private static String key(Long channelId) {
+        return KEY_PREFIX + channelId;
+    }
+
+    private static String encode(ChannelLastMessageDto lastMessage) {
+        long sentAt = lastMessage.getSentAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return lastMessage.getMessageId() + "|" + sentAt + "|" + (lastMessage.getContent() == null ? "" : lastMessage.getContent());
+    }
+
+    private static ChannelLastMessageDto decode(String value) {
+        if (value == null) return null;
+        int first = value.indexOf('|');
+        int second = value.indexOf('|', first + 1);
+        if (first < 0 || second < 0) return null;
+        LocalDateTime sentAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value.substring(first + 1, second))), ZoneId.systemDefault());
+        return new ChannelLastMessageDto(Long.valueOf(value.substring(0, first)), value.substring(second + 1), sentAt);
+    }
+}
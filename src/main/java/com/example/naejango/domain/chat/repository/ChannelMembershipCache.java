@@ -0,0 +1,64 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.dto.ChannelMembershipDto;
+import com.example.naejango.global.common.cache.InvalidatingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 채널의 종료 여부, 참여자(userId, chatId) 정보를 channelId 단위로 캐싱합니다.
+ * 메세지 발송, 구독 시 마다 Channel, Chat 을 조회하지 않도록 합니다.
+ * 참여자 변경(입장, 퇴장, 채널 생성), 채널 종료 시 invalidate 해야 하며,
+ * invalidate 는 Redis 채널을 통해 다른 서버에도 전파됩니다.
+ */
+@Repository
+public class ChannelMembershipCache implements MessageListener {
+    private static final String INVALIDATION_TOPIC = "chat-membership-invalidation";
+
+    private final ChannelRepository channelRepository;
+    private final ChatRepository chatRepository;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final InvalidatingCache<ChannelMembershipDto> cache;
+
+    public ChannelMembershipCache(ChannelRepository channelRepository,
+                                  ChatRepository chatRepository,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${chat.membership-cache.max-size:10000}") int maxSize) {
+        this.channelRepository = channelRepository;
+        this.chatRepository = chatRepository;
+        this.listenerContainer = listenerContainer;
+        this.cache = new InvalidatingCache<>("채널 캐시", INVALIDATION_TOPIC, stringRedisTemplate, maxSize);
+    }
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_TOPIC));
+    }
+
+    /** 채널의 참여자 정보를 조회합니다. 채널이 없는 경우 빈 값을 반환합니다. */
+    public Optional<ChannelMembershipDto> find(Long channelId) {
+        return cache.find(channelId, id -> channelRepository.findIsClosedById(id)
+                .map(isClosed -> new ChannelMembershipDto(id, isClosed, chatRepository.findChatOwnersByChannelId(id))));
+    }
+
+    /** 채널의 캐시를 삭제합니다. */
+    public void invalidate(Long channelId) {
+        cache.invalidate(channelId);
+    }
+
+    /** 다른 서버에서 발행한 invalidate 를 수신합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.receive(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
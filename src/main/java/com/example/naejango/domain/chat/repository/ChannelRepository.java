@@ -8,10 +8,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,10 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
     @Query("SELECT gc FROM GroupChannel gc WHERE gc.item.id = :itemId")
     Optional<GroupChannel> findGroupChannelByItemId(@Param("itemId") Long itemId);
 
+    /** 채널 종료 여부만 조회합니다. */
+    @Query("SELECT c.isClosed FROM Channel c WHERE c.id = :channelId")
+    Optional<Boolean> findIsClosedById(@Param("channelId") Long channelId);
+
     @Query("SELECT DISTINCT c FROM Channel c JOIN Chat cht ON cht.channel.id = c.id WHERE cht.id = :chatId")
     Optional<Channel> findByChatId(@Param("chatId") Long chatId);
 
@@ -33,4 +39,13 @@ public interface ChannelRepository extends JpaRepository<Channel, Long> {
             "WHERE cnl.id = :channelId")
     List<User> findParticipantsByChannelId(@Param("channelId") Long channelId);
 
+    /**
+     * 채널의 마지막 메세지를 반영합니다. (ChannelLastMessageFlusher)
+     * 엔티티를 변경하지 않고 두 컬럼만 갱신하며, 이미 더 최근 값이 반영된 경우 갱신하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Channel c SET c.lastMessage = :lastMessage, c.lastModifiedDate = :sentAt " +
+            "WHERE c.id = :channelId AND (c.lastModifiedDate IS NULL OR c.lastModifiedDate <= :sentAt)")
+    int updateLastMessage(@Param("channelId") Long channelId, @Param("lastMessage") String lastMessage, @Param("sentAt") LocalDateTime sentAt);
+
 }
@@ -0,0 +1,155 @@
+package com.example.naejango.domain.chat.repository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.example.naejango.global.common.cache.InvalidatingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * RedisSubscribeRepository 의 채널 구독자(Channel_User:{channelId}) 를 서버 메모리에 캐싱합니다.
+ * 메세지 발송 시 마다 구독자 Set 전체를 Redis 에서 가져오지 않고, 메모리의 불변 Set 으로 구독 여부를 확인합니다.
+ *
+ * 구독자가 변경되면 invalidate 하며, invalidate 는 Redis 채널을 통해 다른 서버에도 전파됩니다.
+ * 전파가 유실되지 않았는지 확인하기 위해 각 서버는 heartbeatInterval 마다 같은 채널에 heartbeat 를 발행합니다.
+ * staleAfter 동안 아무 메세지도 수신하지 못하면 캐시를 비우고, 다시 수신할 때까지 Redis 에서 직접 조회합니다.
+ * 조회 결과는 chat.subscriber-cache.requests (result=hit/miss/bypass) 로 확인할 수 있습니다.
+ */
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "redis-config.websocket", havingValue = "true")
+public class ChannelSubscriberCache implements MessageListener {
+    private static final String INVALIDATION_TOPIC = "chat-subscriber-invalidation";
+    private static final String HEARTBEAT = "heartbeat";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final boolean enabled;
+    private final long heartbeatIntervalMillis;
+    private final long staleAfterNanos;
+    private final ScheduledExecutorService scheduler;
+
+    private final InvalidatingCache<Set<Long>> cache;
+
+    /* invalidate 채널에서 마지막으로 메세지를 수신한 시각 */
+    private volatile long lastReceivedNanos = System.nanoTime();
+    private volatile boolean healthy = true;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter bypassCounter;
+
+    public ChannelSubscriberCache(StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${chat.subscriber-cache.enabled:true}") boolean enabled,
+                                  @Value("${chat.subscriber-cache.max-size:10000}") int maxSize,
+                                  @Value("${chat.subscriber-cache.heartbeat-interval-ms:1000}") long heartbeatIntervalMillis,
+                                  @Value("${chat.subscriber-cache.stale-after-ms:5000}") long staleAfterMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.enabled = enabled;
+        this.cache = new InvalidatingCache<>("구독자 캐시", INVALIDATION_TOPIC, stringRedisTemplate, maxSize);
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.staleAfterNanos = TimeUnit.MILLISECONDS.toNanos(staleAfterMillis);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-subscriber-cache-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hitCounter = meterRegistry.counter("chat.subscriber-cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("chat.subscriber-cache.requests", "result", "miss");
+        this.bypassCounter = meterRegistry.counter("chat.subscriber-cache.requests", "result", "bypass");
+        meterRegistry.gauge("chat.subscriber-cache.size", cache, InvalidatingCache::size);
+        meterRegistry.gauge("chat.subscriber-cache.healthy", this, subscriberCache -> subscriberCache.isHealthy() ? 1 : 0);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) return;
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_TOPIC));
+        scheduler.scheduleWithFixedDelay(this::heartbeatSafely, 0, heartbeatIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 채널의 구독자를 조회합니다. 캐시에 없거나 캐시를 사용할 수 없는 경우 loader 로 Redis 에서 조회합니다.
+     * 반환하는 Set 은 수정할 수 없습니다.
+     */
+    public Set<Long> find(Long channelId, Function<Long, Set<Long>> loader) {
+        if (!isHealthy()) {
+            bypassCounter.increment();
+            return loader.apply(channelId);
+        }
+
+        Set<Long> cached = cache.getIfPresent(channelId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+
+        missCounter.increment();
+        return cache.load(channelId, id -> Optional.of(Set.copyOf(loader.apply(id)))).orElseThrow();
+    }
+
+    /**
+     * 채널의 구독자 캐시를 삭제합니다.
+     * 트랜잭션 안에서 호출된 경우 Redis 에 반영(커밋) 되거나 롤백된 이후에 삭제합니다.
+     */
+    public void invalidate(Long channelId) {
+        if (!enabled) return;
+        cache.invalidate(channelId);
+    }
+
+    /** 다른 서버의 invalidate 와 heartbeat 를 수신합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        lastReceivedNanos = System.nanoTime();
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (HEARTBEAT.equals(body)) return;
+        cache.receive(body);
+    }
+
+    /** 캐시를 사용할 수 있는지 확인합니다. 사용할 수 없게 된 경우 캐시를 비웁니다. */
+    public boolean isHealthy() {
+        if (!enabled) return false;
+        boolean current = System.nanoTime() - lastReceivedNanos <= staleAfterNanos;
+        if (current != healthy) {
+            // 수신이 끊긴 동안의 invalidate 는 유실되었을 수 있으므로 상태가 바뀔 때마다 비웁니다.
+            cache.evictAll();
+            healthy = current;
+            if (current) log.info("구독자 캐시 invalidate 수신이 복구되었습니다.");
+            else log.warn("구독자 캐시 invalidate 수신이 끊겨 Redis 에서 직접 조회합니다.");
+        }
+        return current;
+    }
+
+    private void heartbeatSafely() {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_TOPIC, HEARTBEAT);
+        } catch (RuntimeException e) {
+            log.warn("구독자 캐시 heartbeat 발행 실패", e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.naejango.domain.chat.repository;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 채널 별 구독자(userId) 를 정렬된 long 배열로 저장합니다. (단일 서버 모드)
+ * 구독자 변경은 ConcurrentHashMap.compute 안에서 새 배열을 만들어 교체(copy-on-write)하므로 채널 단위로만 잠기고,
+ * 조회는 잠금 없이 현재 배열을 읽습니다. contains 는 이진 탐색으로 객체를 생성하지 않습니다.
+ * 채널 당 구독자 수가 적고 변경보다 조회(메세지 발송)가 훨씬 많은 경우에 적합합니다.
+ *
+ * 한 유저가 여러 세션(기기)에서 같은 채널을 구독할 수 있으므로 (채널, 유저) 별 구독 수를 셉니다.
+ * 유저는 마지막 구독이 해제될 때 채널에서 삭제됩니다.
+ */
+public class ChannelSubscriberRegistry {
+    private final ConcurrentHashMap<Long, Subscribers> channelSubscribers = new ConcurrentHashMap<>();
+
+    /**
+     * 구독 수를 늘립니다.
+     * @return 유저가 새로 채널의 구독자가 된 경우 true
+     */
+    public boolean add(Long channelId, long userId) {
+        boolean[] added = new boolean[1];
+        channelSubscribers.compute(channelId, (key, subscribers) -> {
+            if (subscribers == null) {
+                added[0] = true;
+                return new Subscribers(new long[]{userId}, new int[]{1});
+            }
+            int index = Arrays.binarySearch(subscribers.userIds, userId);
+            if (index >= 0) {
+                // 구독 수는 같은 채널의 변경끼리만 접근하므로 그대로 수정합니다.
+                subscribers.counts[index]++;
+                return subscribers;
+            }
+            added[0] = true;
+            return subscribers.insert(-index - 1, userId);
+        });
+        return added[0];
+    }
+
+    /**
+     * 구독 수를 줄입니다. 마지막 구독이 해제되면 유저를, 마지막 구독자가 삭제되면 채널을 삭제합니다.
+     * @return 유저가 채널의 구독자에서 삭제된 경우 true
+     */
+    public boolean remove(Long channelId, long userId) {
+        boolean[] removed = new boolean[1];
+        channelSubscribers.computeIfPresent(channelId, (key, subscribers) -> {
+            int index = Arrays.binarySearch(subscribers.userIds, userId);
+            if (index < 0) return subscribers;
+            if (--subscribers.counts[index] > 0) return subscribers;
+            removed[0] = true;
+            return subscribers.userIds.length == 1 ? null : subscribers.delete(index);
+        });
+        return removed[0];
+    }
+
+    public boolean contains(Long channelId, long userId) {
+        Subscribers subscribers = channelSubscribers.get(channelId);
+        return subscribers != null && Arrays.binarySearch(subscribers.userIds, userId) >= 0;
+    }
+
+    /** 현재 구독자 목록을 반환합니다. 이후의 변경은 반영되지 않습니다. */
+    public SubscriberSnapshot snapshot(Long channelId) {
+        Subscribers subscribers = channelSubscribers.get(channelId);
+        return subscribers == null ? SubscriberSnapshot.empty() : SubscriberSnapshot.wrap(subscribers.userIds);
+    }
+
+    public int channelCount() {
+        return channelSubscribers.size();
+    }
+
+    /* userIds 는 만들어진 뒤 변경되지 않으며, counts 는 userIds 와 같은 순서의 구독 수입니다. */
+    private static final class Subscribers {
+        private final long[] userIds;
+        private final int[] counts;
+
+        private Subscribers(long[] userIds, int[] counts) {
+            this.userIds = userIds;
+            this.counts = counts;
+        }
+
+        private Subscribers insert(int index, long userId) {
+            int length = userIds.length;
+            long[] newUserIds = new long[length + 1];
+            int[] newCounts = new int[length + 1];
+            System.arraycopy(userIds, 0, newUserIds, 0, index);
+            System.arraycopy(counts, 0, newCounts, 0, index);
+            newUserIds[index] = userId;
+            newCounts[index] = 1;
+            System.arraycopy(userIds, index, newUserIds, index + 1, length - index);
+            System.arraycopy(counts, index, newCounts, index + 1, length - index);
+            return new Subscribers(newUserIds, newCounts);
+        }
+
+        private Subscribers delete(int index) {
+            int length = userIds.length;
+            long[] newUserIds = new long[length - 1];
+            int[] newCounts = new int[length - 1];
+            System.arraycopy(userIds, 0, newUserIds, 0, index);
+            System.arraycopy(counts, 0, newCounts, 0, index);
+            System.arraycopy(userIds, index + 1, newUserIds, index, length - index - 1);
+            System.arraycopy(counts, index + 1, newCounts, index, length - index - 1);
+            return new Subscribers(newUserIds, newCounts);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.domain.ChatInbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Repository
+public interface ChatInboxRepository extends JpaRepository<ChatInbox, Long> {
+    /** 채널에 메세지가 발행되었을 때 채널의 모든 inbox 에 안 읽은 메세지 수와 마지막 메세지를 반영합니다. */
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.unreadCount = i.unreadCount + :count, i.lastMessage = :lastMessage, i.lastActivity = :sentAt " +
+            "WHERE i.channelId = :channelId")
+    void publishMessages(@Param("channelId") Long channelId, @Param("count") int count,
+                         @Param("lastMessage") String lastMessage, @Param("sentAt") LocalDateTime sentAt);
+
+    /** 채널을 보고 있는 유저들의 inbox 를 읽음 처리 합니다. */
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.unreadCount = 0 WHERE i.channelId = :channelId AND i.ownerId IN :ownerIds")
+    void readMessageByChannelIdAndOwnerIds(@Param("channelId") Long channelId, @Param("ownerIds") Set<Long> ownerIds);
+
+    @Modifying
+    @Query("UPDATE ChatInbox i SET i.unreadCount = 0 WHERE i.chatId = :chatId")
+    void readMessage(@Param("chatId") Long chatId);
+
+    @Modifying
+    @Query("DELETE FROM ChatInbox i WHERE i.chatId = :chatId")
+    void deleteByChatId(@Param("chatId") Long chatId);
+
+    @Query(value = "SELECT COALESCE(MAX(chatroom_id), 0) FROM chat", nativeQuery = true)
+    Long findMaxChatId();
+
+    /**
+     * chat id 가 (fromChatId, toChatId] 인 Chat 의 inbox 를 chat, channel, message 로부터 다시 계산합니다.
+     * 안 읽은 메세지 수는 Chat 의 읽음 위치(lastReadMessageId) 이후 메세지 수 입니다.
+     * @return 계산한 inbox 수
+     */
+    @Modifying
+    @Query(value = "INSERT INTO chat_inbox (chat_id, owner_id, channel_id, unread_count, last_message, last_activity) " +
+            "SELECT c.chatroom_id, c.user_id, c.channel_id, " +
+            "(SELECT COUNT(*) FROM message m WHERE m.channel_id = c.channel_id AND m.message_id > c.last_read_message_id), " +
+            "cnl.last_message, COALESCE(cnl.last_modified_date, c.created_date, now()) " +
+            "FROM chat c JOIN channel cnl ON cnl.channel_id = c.channel_id " +
+            "WHERE c.chatroom_id > :fromChatId AND c.chatroom_id <= :toChatId " +
+            "ON CONFLICT (chat_id) DO UPDATE SET owner_id = EXCLUDED.owner_id, channel_id = EXCLUDED.channel_id, " +
+            "unread_count = EXCLUDED.unread_count, last_message = EXCLUDED.last_message, last_activity = EXCLUDED.last_activity",
+            nativeQuery = true)
+    int rebuild(@Param("fromChatId") Long fromChatId, @Param("toChatId") Long toChatId);
+
+    /** Chat 이 삭제된 inbox 를 삭제합니다. */
+    @Modifying
+    @Query(value = "DELETE FROM chat_inbox i WHERE NOT EXISTS (SELECT 1 FROM chat c WHERE c.chatroom_id = i.chat_id)", nativeQuery = true)
+    int deleteOrphans();
+}
@@ -2,14 +2,17 @@ package com.example.naejango.domain.chat.repository;
 
 import com.example.naejango.domain.chat.domain.Chat;
 import com.example.naejango.domain.chat.dto.ChannelAndChatDto;
+import com.example.naejango.domain.chat.dto.ChatOwnerDto;
 import com.example.naejango.domain.user.domain.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface ChatRepository extends JpaRepository<Chat, Long>, ChatRepositoryCustom {
@@ -35,6 +38,19 @@ public interface ChatRepository extends JpaRepository<Chat, Long>, ChatRepositor
     @Query("SELECT c FROM Chat c WHERE c.channel.id = :channelId AND c.owner.id= :ownerId")
     Optional<Chat> findChatByChannelIdAndOwnerId(@Param("channelId") Long channelId, @Param("ownerId") Long ownerId);
 
+    /** 채널에 참여 중인 Chat 의 id 와 주인의 id 를 조회합니다. */
+    @Query("SELECT NEW com.example.naejango.domain.chat.dto.ChatOwnerDto(c.id, c.owner.id) FROM Chat c WHERE c.channel.id = :channelId")
+    List<ChatOwnerDto> findChatOwnersByChannelId(@Param("channelId") Long channelId);
+
+    /**
+     * 채널을 보고 있는 유저들의 Chat 을 messageId 까지 읽음 처리 합니다.
+     * 읽음 상태는 Chat 당 하나의 값(lastReadMessageId)으로 관리되므로 메세지 당 row 를 생성하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE Chat c SET c.lastReadMessageId = :messageId " +
+            "WHERE c.channel.id = :channelId AND c.owner.id IN :ownerIds AND c.lastReadMessageId < :messageId")
+    void readMessageByChannelIdAndOwnerIds(@Param("channelId") Long channelId, @Param("ownerIds") Set<Long> ownerIds, @Param("messageId") Long messageId);
+
     List<Chat> findByChannelId(Long channelId);
     List<Chat> findByOwner(User user);
 
@@ -2,8 +2,6 @@ package com.example.naejango.domain.chat.repository;
 
 import com.example.naejango.domain.chat.dto.ChatInfoDto;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.Expressions;
-import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import javax.persistence.EntityManager;
@@ -11,7 +9,7 @@ import java.util.List;
 
 import static com.example.naejango.domain.chat.domain.QChannel.channel;
 import static com.example.naejango.domain.chat.domain.QChat.chat;
-import static com.example.naejango.domain.chat.domain.QChatMessage.chatMessage;
+import static com.example.naejango.domain.chat.domain.QChatInbox.chatInbox;
 
 public class ChatRepositoryImpl implements ChatRepositoryCustom {
     private final JPAQueryFactory queryFactory;
@@ -20,25 +18,23 @@ public class ChatRepositoryImpl implements ChatRepositoryCustom {
         this.queryFactory = new JPAQueryFactory(em);
     }
 
+    /**
+     * 채팅 목록을 최근 활동 순으로 조회합니다.
+     * 안 읽은 메세지 수와 마지막 메세지는 chat_inbox 에 미리 계산되어 있으므로
+     * (owner_id, last_activity) 인덱스 범위 조회 후 Chat, Channel 을 PK 로 조인합니다.
+     */
     @Override
     public List<ChatInfoDto> findChatByOwnerIdOrderByLastChat(Long ownerId, int page, int size) {
         return queryFactory.select(Projections.constructor(ChatInfoDto.class,
-                        chat, channel, countUnread()
+                        chat, channel, chatInbox
                         ))
-                .from(chat)
-                .leftJoin(chat.channel, channel)
-                .leftJoin(chatMessage).on(chat.eq(chatMessage.chat))
-                .where(chat.owner.id.eq(ownerId))
-                .groupBy(chat, channel)
-                .orderBy(channel.lastModifiedDate.desc())
+                .from(chatInbox)
+                .join(chat).on(chat.id.eq(chatInbox.chatId))
+                .join(chat.channel, channel)
+                .where(chatInbox.ownerId.eq(ownerId))
+                .orderBy(chatInbox.lastActivity.desc())
                 .offset((long) page * size)
                 .limit(size)
                 .fetch();
     }
-
-    private NumberExpression<Integer> countUnread() {
-        return Expressions.numberTemplate(
-                Integer.class, "SUM(CASE WHEN {0} = {1} THEN 1 ELSE 0 END)",
-                chatMessage.isRead, false);
-    }
 }
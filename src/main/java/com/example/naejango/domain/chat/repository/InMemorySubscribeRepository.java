@@ -4,12 +4,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
-import java.util.Collections;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
 
 @Repository
@@ -20,14 +19,11 @@ public class InMemorySubscribeRepository implements SubscribeRepository {
     /* sessionId 에 UserId 저장합니다. */
     private final ConcurrentHashMap<String, Long> sessionIdUserIdMap = new ConcurrentHashMap<>();
 
-    /* 채널을 구독하는 userId 를 저장합니다. */
-    private final ConcurrentHashMap<Long, Set<Long>> channelSubscribersMap = new ConcurrentHashMap<>();
+    /* 채널을 구독하는 userId 와 (채널, 유저) 별 구독 수를 저장합니다. */
+    private final ChannelSubscriberRegistry channelSubscriberRegistry = new ChannelSubscriberRegistry();
 
-    /* subscriptionId 가 어떤 channel 을 가르키는지 저장합니다. */
-    private final ConcurrentHashMap<String, Long> subscriptionIdChannelIdMap = new ConcurrentHashMap<>();
-
-    /* session 에 SubscriptionId 를 저장합니다. */
-    private final ConcurrentHashMap<String, Set<String>> sessionIdSubscriptionIdMap = new ConcurrentHashMap<>();
+    /* session 의 subscriptionId 가 어떤 channel 을 가르키는지 저장합니다. subscriptionId 는 세션 안에서만 고유합니다. */
+    private final ConcurrentHashMap<String, Map<String, Long>> sessionSubscriptionChannelMap = new ConcurrentHashMap<>();
 
     @Override
     public void saveUserIdBySessionId(Long userId, String sessionId) {
@@ -40,74 +36,81 @@ public class InMemorySubscribeRepository implements SubscribeRepository {
     }
 
     @Override
-    public void deleteSessionId(String sessionId) {
-        sessionIdUserIdMap.remove(sessionId);
-    }
-
-    @Override
-    public void saveSubscriptionIdBySessionId(String subscriptionId, String sessionId) {
-        sessionIdSubscriptionIdMap.computeIfAbsent(sessionId, key -> new HashSet<>()).add(subscriptionId);
+    public void subscribe(Long userId, Long channelId, String subscriptionId, String sessionId) {
+        Long previous = sessionSubscriptionChannelMap.computeIfAbsent(sessionId, key -> new ConcurrentHashMap<>())
+                .put(subscriptionId, channelId);
+        if (channelId.equals(previous)) return;
+        if (previous != null) channelSubscriberRegistry.remove(previous, userId);
+        channelSubscriberRegistry.add(channelId, userId);
     }
 
     @Override
-    public Set<String> findSubscriptionIdBySessionId(String sessionId) {
-        return sessionIdSubscriptionIdMap.get(sessionId);
+    public Optional<Long> unsubscribe(String sessionId, String subscriptionId) {
+        Long userId = sessionIdUserIdMap.get(sessionId);
+        if (userId == null) return Optional.empty();
+        Map<String, Long> subscriptions = sessionSubscriptionChannelMap.get(sessionId);
+        Long channelId = subscriptions == null ? null : subscriptions.remove(subscriptionId);
+        if (channelId == null) return Optional.empty();
+
+        channelSubscriberRegistry.remove(channelId, userId);
+        return Optional.of(channelId);
     }
 
     @Override
-    public Set<Long> findSubscribeChannelIdBySessionId(String sessionId) {
-        return sessionIdSubscriptionIdMap.get(sessionId)
-                .stream().map(subscriptionIdChannelIdMap::get).collect(Collectors.toSet());
+    public Optional<Set<Long>> disconnect(String sessionId) {
+        Long userId = sessionIdUserIdMap.get(sessionId);
+        if (userId == null) return Optional.empty();
+
+        Set<Long> channelIds = new HashSet<>();
+        Map<String, Long> subscriptions = sessionSubscriptionChannelMap.remove(sessionId);
+        if (subscriptions != null) {
+            subscriptions.values().forEach(channelId -> {
+                channelSubscriberRegistry.remove(channelId, userId);
+                channelIds.add(channelId);
+            });
+        }
+        sessionIdUserIdMap.remove(sessionId);
+        return Optional.of(channelIds);
     }
 
+    /** 단일 서버 모드에서는 다른 노드가 없으므로 lease 를 사용하지 않습니다. */
     @Override
-    public void deleteAllSubscriptionsBySessionId(String sessionId) {
-        sessionIdSubscriptionIdMap.remove(sessionId);
+    public void renewLease() {
     }
 
-
     @Override
-    public Set<Long> findSubscribersByChannelId(Long channelId) {
-        return channelSubscribersMap.getOrDefault(channelId, new HashSet<>());
+    public int adoptExpiredSessions(int count) {
+        return 0;
     }
 
     @Override
-    public Optional<Long> findChannelIdBySubscriptionId(String subscriptionId) {
-        return Optional.ofNullable(subscriptionIdChannelIdMap.get(subscriptionId));
+    public Set<String> findNodeSessionIds() {
+        return new HashSet<>(sessionIdUserIdMap.keySet());
     }
 
     @Override
-    public void setSubscriberToChannel(Long userId, Long channelId) {
-        Set<Long> usersId = channelSubscribersMap.get(channelId);
-        if (usersId == null) {
-            channelSubscribersMap.put(channelId, new HashSet<>(Collections.singletonList(userId)));
-        }
-        else usersId.add(userId);
+    public Set<String> findSubscriptionIdBySessionId(String sessionId) {
+        return new HashSet<>(sessionSubscriptionChannelMap.getOrDefault(sessionId, Map.of()).keySet());
     }
 
     @Override
-    public void setSubscriptionIdToChannel(String subscriptionId, Long channelId) {
-        subscriptionIdChannelIdMap.put(subscriptionId,channelId);
+    public Set<Long> findSubscribeChannelIdBySessionId(String sessionId) {
+        return new HashSet<>(sessionSubscriptionChannelMap.getOrDefault(sessionId, Map.of()).values());
     }
 
+    /** 조회 시점의 구독자 목록을 반환합니다. */
     @Override
-    public void deleteSubscriberFromChannel(Long userId, Long channelId) {
-        Set<Long> subscribersId = channelSubscribersMap.get(channelId);
-        if (subscribersId == null) return;
-        else subscribersId.remove(userId);
-        if (subscribersId.isEmpty()) channelSubscribersMap.remove(channelId);
+    public Set<Long> findSubscribersByChannelId(Long channelId) {
+        return channelSubscriberRegistry.snapshot(channelId);
     }
 
     @Override
-    public void deleteSubscriptionId(String subscriptionId) {
-        subscriptionIdChannelIdMap.remove(subscriptionId);
+    public boolean isSubscriber(Long userId, Long channelId) {
+        return channelSubscriberRegistry.contains(channelId, userId);
     }
 
     @Override
-    public void deleteSubscriptionIdBySessionId(String subscriptionId, String sessionId) {
-        sessionIdSubscriptionIdMap.computeIfPresent(sessionId, (k, m) -> {
-            m.remove(subscriptionId);
-            return m;
-        });
+    public Optional<Long> findChannelIdBySubscriptionId(String sessionId, String subscriptionId) {
+        return Optional.ofNullable(sessionSubscriptionChannelMap.getOrDefault(sessionId, Map.of()).get(subscriptionId));
     }
 }
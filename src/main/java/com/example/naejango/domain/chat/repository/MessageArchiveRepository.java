@@ -0,0 +1,62 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.domain.MessageArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MessageArchiveRepository extends JpaRepository<MessageArchive, Long> {
+    /** Chat 에서 조회 가능한 보관 메세지 중 beforeMessageId 보다 이전 메세지를 최신순으로 조회합니다. */
+    @Query("SELECT a FROM MessageArchive a, Chat c WHERE c.id = :chatId AND a.channelId = c.channel.id AND a.id > c.startMessageId AND a.id < :beforeMessageId ORDER BY a.id DESC")
+    List<MessageArchive> findMessagesBefore(@Param("chatId") Long chatId, @Param("beforeMessageId") Long beforeMessageId, Pageable pageable);
+
+    /** Chat 에서 조회 가능한 보관 메세지를 최신순으로 offset 부터 limit 개 조회합니다. */
+    @Query(value = "SELECT a.* FROM message_archive a JOIN chat c ON a.channel_id = c.channel_id " +
+            "WHERE c.chatroom_id = :chatId AND a.message_id > c.start_message_id " +
+            "ORDER BY a.message_id DESC LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<MessageArchive> findRecentMessages(@Param("chatId") Long chatId, @Param("offset") long offset, @Param("limit") int limit);
+
+    /**
+     * 채널의 메세지를 오래된 순으로 limit 개 보관 영역으로 옮깁니다.
+     * 삭제와 저장이 하나의 문장으로 실행되므로 메세지가 유실되거나 중복되지 않습니다.
+     * @return 옮긴 메세지 수
+     */
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM message WHERE message_id IN " +
+            "(SELECT message_id FROM message WHERE channel_id = :channelId ORDER BY message_id LIMIT :limit) " +
+            "RETURNING message_id, message_type, sender_id, content, channel_id, created_date) " +
+            "INSERT INTO message_archive (message_id, message_type, sender_id, content, channel_id, created_date) " +
+            "SELECT message_id, message_type, sender_id, content, channel_id, created_date FROM moved " +
+            "ON CONFLICT (message_id) DO NOTHING", nativeQuery = true)
+    int archiveChannelMessages(@Param("channelId") Long channelId, @Param("limit") int limit);
+
+    /**
+     * cutoff 이전에 생성된 메세지를 오래된 순으로 limit 개 보관 영역으로 옮깁니다.
+     * 파티션을 사용하지 않는 경우 사용합니다. message_id 순으로 조회하므로 오래된 메세지부터 PK 인덱스로 찾습니다.
+     * @return 옮긴 메세지 수
+     */
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM message WHERE message_id IN " +
+            "(SELECT message_id FROM message WHERE created_date < :cutoff ORDER BY message_id LIMIT :limit) " +
+            "RETURNING message_id, message_type, sender_id, content, channel_id, created_date) " +
+            "INSERT INTO message_archive (message_id, message_type, sender_id, content, channel_id, created_date) " +
+            "SELECT message_id, message_type, sender_id, content, channel_id, created_date FROM moved " +
+            "ON CONFLICT (message_id) DO NOTHING", nativeQuery = true)
+    int archiveMessagesCreatedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /** closedBefore 이전에 종료되었고 message 테이블에 메세지가 남아 있는 채널의 id 를 조회합니다. */
+    @Query(value = "SELECT cnl.channel_id FROM channel cnl WHERE cnl.is_closed = true AND cnl.last_modified_date < :closedBefore " +
+            "AND EXISTS (SELECT 1 FROM message m WHERE m.channel_id = cnl.channel_id) LIMIT :limit", nativeQuery = true)
+    List<Long> findClosedChannelIdsWithMessages(@Param("closedBefore") LocalDateTime closedBefore, @Param("limit") int limit);
+
+    @Modifying
+    @Query("DELETE FROM MessageArchive a WHERE a.channelId = :channelId")
+    void deleteMessagesByChannelId(@Param("channelId") Long channelId);
+}
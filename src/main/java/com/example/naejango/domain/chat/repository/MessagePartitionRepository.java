@@ -0,0 +1,75 @@
+package com.example.naejango.domain.chat.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * message 테이블의 월 단위 파티션을 관리합니다.
+ * message 테이블은 created_date 기준 RANGE 파티션 테이블이며(sql/migration/message_partition.sql),
+ * 각 파티션의 이름은 message_pYYYYMM 입니다.
+ * 마이그레이션 전의 일반 테이블인 경우 isPartitioned() 가 false 를 반환하며 파티션 작업을 하지 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class MessagePartitionRepository {
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final Pattern PARTITION_NAME = Pattern.compile("message_p(\\d{6})");
+    private final JdbcTemplate jdbcTemplate;
+
+    /** message 테이블이 파티션 테이블인지 확인합니다. */
+    public boolean isPartitioned() {
+        List<String> relkind = jdbcTemplate.queryForList(
+                "SELECT relkind::text FROM pg_class WHERE relname = 'message' AND relkind IN ('r', 'p')", String.class);
+        return relkind.contains("p");
+    }
+
+    /** 해당 월의 파티션이 없으면 생성합니다. */
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF message FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+    }
+
+    /** 월 단위 파티션을 오래된 순으로 조회합니다. (기본 파티션 제외) */
+    public Map<YearMonth, String> findPartitions() {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname::text FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent WHERE p.relname = 'message'", String.class);
+        Map<YearMonth, String> partitions = new TreeMap<>();
+        for (String name : names) {
+            Matcher matcher = PARTITION_NAME.matcher(name);
+            if (matcher.matches()) partitions.put(YearMonth.parse(matcher.group(1), SUFFIX), name);
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션의 메세지를 모두 보관 영역으로 옮긴 후 파티션을 떼어내고 삭제합니다.
+     * row 단위 DELETE 를 하지 않으므로 message 테이블과 인덱스에 dead tuple 이 남지 않습니다.
+     * 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+     * @return 옮긴 메세지 수
+     */
+    public int archivePartition(YearMonth month) {
+        String name = partitionName(month);
+        int archived = jdbcTemplate.update(
+                "INSERT INTO message_archive (message_id, message_type, sender_id, content, channel_id, created_date) " +
+                        "SELECT message_id, message_type, sender_id, content, channel_id, created_date FROM " + name +
+                        " ON CONFLICT (message_id) DO NOTHING");
+        jdbcTemplate.execute("ALTER TABLE message DETACH PARTITION " + name);
+        jdbcTemplate.execute("DROP TABLE " + name);
+        return archived;
+    }
+
+    private String partitionName(YearMonth month) {
+        return "message_p" + month.format(SUFFIX);
+    }
+}
@@ -9,11 +9,29 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface MessageRepository extends JpaRepository<Message, Long> {
-    @Query("SELECT m FROM Message m JOIN m.chatMessages cm JOIN cm.chat c WHERE c.id = :chatId ORDER BY m.createdDate DESC")
+    /**
+     * Chat 에서 조회 가능한 채널의 메세지를 최신순으로 조회합니다.
+     * Chat 의 시작 지점(startMessageId) 이후에 채널에 발행된 메세지가 조회 대상입니다.
+     */
+    @Query("SELECT m FROM Message m, Chat c WHERE c.id = :chatId AND m.channel = c.channel AND m.id > c.startMessageId ORDER BY m.id DESC")
     Page<Message> findRecentMessages(@Param("chatId") Long chatId, Pageable pageable);
 
+    /**
+     * Chat 에서 조회 가능한 메세지 중 beforeMessageId 보다 이전 메세지를 최신순으로 조회합니다. (keyset pagination)
+     * offset 을 건너뛰지 않고 (channel_id, message_id) 인덱스에서 바로 시작 위치를 찾으며, count 쿼리를 실행하지 않습니다.
+     * pageable 은 조회 개수 제한으로만 사용합니다.
+     */
+    @Query("SELECT m FROM Message m, Chat c WHERE c.id = :chatId AND m.channel = c.channel AND m.id > c.startMessageId AND m.id < :beforeMessageId ORDER BY m.id DESC")
+    List<Message> findMessagesBefore(@Param("chatId") Long chatId, @Param("beforeMessageId") Long beforeMessageId, Pageable pageable);
+
+    /** 채널의 마지막 메세지 id 를 조회합니다. 메세지가 없는 경우 0 을 반환합니다. */
+    @Query("SELECT COALESCE(MAX(m.id), 0) FROM Message m WHERE m.channel.id = :channelId")
+    Long findLastMessageIdByChannelId(@Param("channelId") Long channelId);
+
     @Modifying
     @Query("DELETE FROM Message m WHERE m.channel.id = :channelId")
     void deleteMessagesByChannelId(@Param("channelId")Long channelId);
@@ -1,110 +1,226 @@
 package com.example.naejango.domain.chat.repository;
 
+import com.example.naejango.domain.chat.config.ChatNodeId;
 import com.example.naejango.global.aop.transactionteststub.TransactionTest;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * 구독 정보를 Redis 에 저장합니다.
+ * 구독, 구독 취소, 연결 종료는 각각 하나의 Lua 스크립트로 실행하여
+ * 한 번의 왕복으로 처리되고, 중간에 실패하여 일부만 반영되는 경우가 없습니다.
+ *
+ * 한 유저가 여러 세션(기기)에서 같은 채널을 구독할 수 있으므로 채널의 구독자는 (유저, 구독 수) 로 저장하고,
+ * 마지막 구독이 해제될 때 채널의 구독자에서 삭제합니다.
+ *
+ * 세션은 연결된 서버(노드)의 세션 목록에 함께 기록됩니다. 각 노드는 주기적으로 lease 를 갱신하며,
+ * lease 가 만료된 노드(비정상 종료)의 세션은 다른 노드가 가져가(adopt) 정리합니다.
+ *
+ * Session_User: (hash)                      sessionId -> userId
+ * Session_Subscription_Channel:{sessionId}  (hash) subscriptionId -> channelId, subscriptionId 는 세션 안에서만 고유합니다.
+ * Channel_Subscriber:{channelId}            (hash) userId -> 구독 수
+ * Chat_Nodes (set)                          세션을 가진 적이 있는 nodeId
+ * Chat_Node_Lease:{nodeId}                  노드의 lease, leaseTtl 이 지나면 만료됩니다.
+ * Node_Session:{nodeId} (set)               노드에 연결된 sessionId
+ */
 @Repository
 @ConditionalOnProperty(name = "redis-config.websocket", havingValue = "true")
-@RequiredArgsConstructor
 public class RedisSubscribeRepository implements SubscribeRepository {
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ChannelSubscriberCache channelSubscriberCache;
+    private final String nodeId;
+    private final long leaseTtlMillis;
     private final String SESSION_USER = "Session_User:";
-    private final String SESSION_SUBSCRIPTION = "Session_Subscription:";
-    private final String SUBSCRIPTION_CHANNEL = "Subscription_Channel:";
-    private final String CHANNEL_USER = "Channel_User:";
+    private final String SESSION_SUBSCRIPTION_CHANNEL = "Session_Subscription_Channel:";
+    private final String CHANNEL_SUBSCRIBER = "Channel_Subscriber:";
+    private final String CHAT_NODES = "Chat_Nodes";
+    private final String NODE_LEASE = "Chat_Node_Lease:";
+    private final String NODE_SESSION = "Node_Session:";
+
+    /* KEYS : Session_User:, Node_Session:{nodeId} / ARGV : sessionId, userId */
+    private static final RedisScript<Long> SAVE_SESSION_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /*
+     * KEYS : Session_Subscription_Channel:{sessionId} / ARGV : userId, subscriptionId, channelId, Channel_Subscriber:
+     * 이미 같은 채널을 구독 중이면 -1, 같은 구독 id 로 다른 채널을 구독 중이었다면 그 채널의 구독을 해제하고 channelId 를, 아니면 0 을 반환합니다.
+     */
+    private static final RedisScript<Long> SUBSCRIBE_SCRIPT = new DefaultRedisScript<>(
+            "local previous = redis.call('HGET', KEYS[1], ARGV[2]) " +
+            "if previous == ARGV[3] then return -1 end " +
+            "if previous then " +
+            "  local previousKey = ARGV[4] .. previous " +
+            "  if redis.call('HINCRBY', previousKey, ARGV[1], -1) <= 0 then redis.call('HDEL', previousKey, ARGV[1]) end " +
+            "end " +
+            "redis.call('HSET', KEYS[1], ARGV[2], ARGV[3]) " +
+            "redis.call('HINCRBY', ARGV[4] .. ARGV[3], ARGV[1], 1) " +
+            "if previous then return tonumber(previous) end " +
+            "return 0", Long.class);
+
+    /* KEYS : Session_User:, Session_Subscription_Channel:{sessionId} / ARGV : sessionId, subscriptionId, Channel_Subscriber: */
+    private static final RedisScript<Long> UNSUBSCRIBE_SCRIPT = new DefaultRedisScript<>(
+            "local userId = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not userId then return 0 end " +
+            "local channelId = redis.call('HGET', KEYS[2], ARGV[2]) " +
+            "if not channelId then return 0 end " +
+            "redis.call('HDEL', KEYS[2], ARGV[2]) " +
+            "local channelKey = ARGV[3] .. channelId " +
+            "if redis.call('HINCRBY', channelKey, userId, -1) <= 0 then redis.call('HDEL', channelKey, userId) end " +
+            "return tonumber(channelId)", Long.class);
+
+    /* KEYS : Session_User:, Session_Subscription_Channel:{sessionId}, Node_Session:{nodeId} / ARGV : sessionId, Channel_Subscriber: */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DISCONNECT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SREM', KEYS[3], ARGV[1]) " +
+            "local userId = redis.call('HGET', KEYS[1], ARGV[1]) " +
+            "if not userId then return false end " +
+            "local channelIds = redis.call('HVALS', KEYS[2]) " +
+            "for _, channelId in ipairs(channelIds) do " +
+            "  local channelKey = ARGV[2] .. channelId " +
+            "  if redis.call('HINCRBY', channelKey, userId, -1) <= 0 then redis.call('HDEL', channelKey, userId) end " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "redis.call('HDEL', KEYS[1], ARGV[1]) " +
+            "return channelIds", List.class);
+
+    /* KEYS : Chat_Node_Lease:{nodeId}, Chat_Nodes / ARGV : nodeId, leaseTtl(ms) */
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SET', KEYS[1], '1', 'PX', ARGV[2]) " +
+            "redis.call('SADD', KEYS[2], ARGV[1]) " +
+            "return 1", Long.class);
+
+    /*
+     * KEYS : Chat_Nodes, Node_Session:{이 노드의 nodeId} / ARGV : Chat_Node_Lease:, Node_Session:, 최대 개수
+     * lease 가 만료된 노드의 세션을 최대 개수만큼 이 노드의 세션 목록으로 옮기고, 세션이 남지 않은 노드는 목록에서 삭제합니다.
+     */
+    private static final RedisScript<Long> ADOPT_SCRIPT = new DefaultRedisScript<>(
+            "local limit = tonumber(ARGV[3]) " +
+            "local adopted = 0 " +
+            "for _, node in ipairs(redis.call('SMEMBERS', KEYS[1])) do " +
+            "  if adopted >= limit then break end " +
+            "  if redis.call('EXISTS', ARGV[1] .. node) == 0 then " +
+            "    local nodeKey = ARGV[2] .. node " +
+            "    local sessions = redis.call('SPOP', nodeKey, limit - adopted) " +
+            "    for _, sessionId in ipairs(sessions) do redis.call('SADD', KEYS[2], sessionId) end " +
+            "    adopted = adopted + #sessions " +
+            "    if redis.call('SCARD', nodeKey) == 0 then redis.call('SREM', KEYS[1], node) end " +
+            "  end " +
+            "end " +
+            "return adopted", Long.class);
+
+    public RedisSubscribeRepository(StringRedisTemplate stringRedisTemplate,
+                                    ChannelSubscriberCache channelSubscriberCache,
+                                    ChatNodeId chatNodeId,
+                                    @Value("${chat.session.lease-ttl-ms:30000}") long leaseTtlMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.channelSubscriberCache = channelSubscriberCache;
+        this.nodeId = chatNodeId.getValue();
+        this.leaseTtlMillis = leaseTtlMillis;
+    }
 
+    /** 세션의 유저를 저장하고, 이 노드의 세션 목록에 추가합니다. */
     @Override
     public void saveUserIdBySessionId(Long userId, String sessionId) {
-        redisTemplate.opsForHash().putIfAbsent(SESSION_USER, sessionId, userId);
+        stringRedisTemplate.execute(SAVE_SESSION_SCRIPT, List.of(SESSION_USER, NODE_SESSION + nodeId),
+                sessionId, String.valueOf(userId));
     }
 
     @Override
-    @TransactionTest(pos = 1, value = "subscribe")
-    public void saveSubscriptionIdBySessionId(String subscriptionId, String sessionId) {
-        String key = SESSION_SUBSCRIPTION + sessionId ;
-        redisTemplate.opsForSet().add(key, subscriptionId);
+    public Optional<Long> findUserIdBySessionId(String sessionId) {
+        return Optional.ofNullable(stringRedisTemplate.opsForHash().get(SESSION_USER, sessionId))
+                .map(userId -> Long.valueOf((String) userId));
     }
 
     @Override
-    public void setSubscriberToChannel(Long userId, Long channelId) {
-        String key = CHANNEL_USER + channelId;
-        redisTemplate.opsForSet().add(key, userId);
+    @TransactionTest(pos = 3, value = "subscribe")
+    public void subscribe(Long userId, Long channelId, String subscriptionId, String sessionId) {
+        Long previous = stringRedisTemplate.execute(SUBSCRIBE_SCRIPT, List.of(SESSION_SUBSCRIPTION_CHANNEL + sessionId),
+                String.valueOf(userId), subscriptionId, String.valueOf(channelId), CHANNEL_SUBSCRIBER);
+        if (previous != null && previous > 0) channelSubscriberCache.invalidate(previous);
+        channelSubscriberCache.invalidate(channelId);
     }
 
     @Override
-    public void setSubscriptionIdToChannel(String subscriptionId, Long channelId) {
-        redisTemplate.opsForHash().put(SUBSCRIPTION_CHANNEL, subscriptionId, channelId);
+    @TransactionTest(value = "unsubscribe")
+    public Optional<Long> unsubscribe(String sessionId, String subscriptionId) {
+        Long channelId = stringRedisTemplate.execute(UNSUBSCRIBE_SCRIPT,
+                List.of(SESSION_USER, SESSION_SUBSCRIPTION_CHANNEL + sessionId),
+                sessionId, subscriptionId, CHANNEL_SUBSCRIBER);
+        if (channelId == null || channelId == 0) return Optional.empty();
+        channelSubscriberCache.invalidate(channelId);
+        return Optional.of(channelId);
     }
 
     @Override
-    public Set<Long> findSubscribeChannelIdBySessionId(String sessionId) {
-        String key = SESSION_SUBSCRIPTION + sessionId;
-        Set<Object> subscriptions = redisTemplate.opsForSet().members(key);
-        if(subscriptions == null) return new HashSet<>();
-        return subscriptions.stream().map(subscription
-                        -> (Long) redisTemplate.opsForHash().get(SUBSCRIPTION_CHANNEL, subscription))
-                .collect(Collectors.toSet());
+    @TransactionTest(value = "disconnect")
+    @SuppressWarnings("unchecked")
+    public Optional<Set<Long>> disconnect(String sessionId) {
+        List<String> channelIds = stringRedisTemplate.execute(DISCONNECT_SCRIPT,
+                List.of(SESSION_USER, SESSION_SUBSCRIPTION_CHANNEL + sessionId, NODE_SESSION + nodeId),
+                sessionId, CHANNEL_SUBSCRIBER);
+        if (channelIds == null) return Optional.empty();
+        Set<Long> result = channelIds.stream().map(Long::valueOf).collect(Collectors.toSet());
+        result.forEach(channelSubscriberCache::invalidate);
+        return Optional.of(result);
     }
 
     @Override
-    public Set<String> findSubscriptionIdBySessionId(String sessionId) {
-        String key = SESSION_SUBSCRIPTION + sessionId;
-        return Objects.requireNonNull(redisTemplate.opsForSet().members(key))
-                .stream().map(obj -> (String)obj).collect(Collectors.toSet());
+    public void renewLease() {
+        stringRedisTemplate.execute(RENEW_LEASE_SCRIPT, List.of(NODE_LEASE + nodeId, CHAT_NODES),
+                nodeId, String.valueOf(leaseTtlMillis));
     }
+
     @Override
-    public Optional<Long> findUserIdBySessionId(String sessionId) {
-        return Optional.ofNullable((Long) redisTemplate.opsForHash().get(SESSION_USER, sessionId));
+    public int adoptExpiredSessions(int count) {
+        Long adopted = stringRedisTemplate.execute(ADOPT_SCRIPT, List.of(CHAT_NODES, NODE_SESSION + nodeId),
+                NODE_LEASE, NODE_SESSION, String.valueOf(count));
+        return adopted == null ? 0 : adopted.intValue();
     }
 
     @Override
-    public Optional<Long> findChannelIdBySubscriptionId(String subscriptionId) {
-        return Optional.ofNullable((Long) redisTemplate.opsForHash().get(SUBSCRIPTION_CHANNEL, subscriptionId));
+    public Set<String> findNodeSessionIds() {
+        return Objects.requireNonNull(stringRedisTemplate.opsForSet().members(NODE_SESSION + nodeId));
     }
 
     @Override
-    public Set<Long> findSubscribersByChannelId(Long channelId) {
-        String key = CHANNEL_USER + channelId;
-        return Objects.requireNonNull(redisTemplate.opsForSet().members(key))
-                .stream().map(obj -> Long.valueOf((Integer)obj)).collect(Collectors.toSet());
+    public Set<Long> findSubscribeChannelIdBySessionId(String sessionId) {
+        return stringRedisTemplate.<String, String>opsForHash().values(SESSION_SUBSCRIPTION_CHANNEL + sessionId)
+                .stream().map(Long::valueOf).collect(Collectors.toSet());
     }
 
     @Override
-    @TransactionTest(value = "disconnect")
-    public void deleteSessionId(String sessionId) {
-        redisTemplate.opsForHash().delete(SESSION_USER, sessionId);
+    public Set<String> findSubscriptionIdBySessionId(String sessionId) {
+        return stringRedisTemplate.<String, String>opsForHash().keys(SESSION_SUBSCRIPTION_CHANNEL + sessionId);
     }
 
     @Override
-    public void deleteSubscriberFromChannel(Long userId, Long channelId) {
-        String key = CHANNEL_USER + channelId;
-        redisTemplate.opsForSet().remove(key, userId);
+    public Optional<Long> findChannelIdBySubscriptionId(String sessionId, String subscriptionId) {
+        return Optional.ofNullable(stringRedisTemplate.<String, String>opsForHash().get(SESSION_SUBSCRIPTION_CHANNEL + sessionId, subscriptionId))
+                .map(Long::valueOf);
     }
 
+    /** 서버의 구독자 캐시를 먼저 조회합니다. */
     @Override
-    public void deleteAllSubscriptionsBySessionId(String sessionId) {
-        String key = SESSION_SUBSCRIPTION + sessionId;
-        redisTemplate.delete(key);
+    public Set<Long> findSubscribersByChannelId(Long channelId) {
+        return channelSubscriberCache.find(channelId, this::loadSubscribers);
     }
 
     @Override
-    public void deleteSubscriptionId(String subscriptionId) {
-        redisTemplate.opsForHash().delete(SUBSCRIPTION_CHANNEL, subscriptionId);
+    public boolean isSubscriber(Long userId, Long channelId) {
+        return findSubscribersByChannelId(channelId).contains(userId);
     }
 
-    @Override
-    @TransactionTest(pos = 1, value = "unsubscribe")
-    public void deleteSubscriptionIdBySessionId(String subscriptionId, String sessionId) {
-        String key = SESSION_SUBSCRIPTION + sessionId;
-        redisTemplate.opsForSet().remove(key, subscriptionId);
+    private Set<Long> loadSubscribers(Long channelId) {
+        return stringRedisTemplate.<String, String>opsForHash().keys(CHANNEL_SUBSCRIBER + channelId)
+                .stream().map(Long::valueOf).collect(Collectors.toSet());
     }
 }
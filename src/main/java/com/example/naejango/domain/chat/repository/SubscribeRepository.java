@@ -8,25 +8,39 @@ public interface SubscribeRepository {
     /* Session 정보를 관리하는 메서드 */
     void saveUserIdBySessionId(Long userId, String sessionId);
     Optional<Long> findUserIdBySessionId(String sessionId);
-    void deleteSessionId(String sessionId);
 
-    /* 채널의 구독자를 관리하는 메서드 */
+    /*
+     * 구독 정보를 변경하는 메서드
+     * 채널의 구독자, 세션의 구독 id 와 채널을 한 번에 변경합니다.
+     * 채널의 구독자는 (채널, 유저) 별 구독 수를 세어, 유저의 마지막 구독이 해제될 때 삭제됩니다.
+     */
+    void subscribe(Long userId, Long channelId, String subscriptionId, String sessionId);
+
+    /* 구독을 취소합니다. 취소한 구독의 channelId 를 반환하며, 세션의 유저나 구독 정보가 없으면 아무것도 변경하지 않습니다. */
+    Optional<Long> unsubscribe(String sessionId, String subscriptionId);
+
+    /* 세션의 모든 구독과 세션 정보를 삭제합니다. 구독했던 channelId 를 반환하며, 세션의 유저 정보가 없으면 아무것도 변경하지 않습니다. */
+    Optional<Set<Long>> disconnect(String sessionId);
+
+    /* 채널의 구독자를 조회하는 메서드 */
     Set<Long> findSubscribersByChannelId(Long channelId);
-    void setSubscriberToChannel(Long userId, Long channelId);
-    void deleteSubscriberFromChannel(Long userId, Long channelId);
+    boolean isSubscriber(Long userId, Long channelId);
 
-    /* 세션의 구독 채널을 관리하는 메서드 */
+    /* 세션의 구독 정보를 조회하는 메서드 */
     Set<Long> findSubscribeChannelIdBySessionId(String sessionId);
-
-    /* 세션의 구독 id 를 관리하는 메서드 */
-    void saveSubscriptionIdBySessionId(String subscriptionId, String sessionId);
-    void deleteSubscriptionIdBySessionId(String subscriptionId, String sessionId);
     Set<String> findSubscriptionIdBySessionId(String sessionId);
-    void deleteAllSubscriptionsBySessionId(String sessionId);
 
-    /* 구독 id 의 채널 정보를 관리하는 메서드 */
-    Optional<Long> findChannelIdBySubscriptionId(String subscriptionId);
-    void setSubscriptionIdToChannel(String subscriptionId, Long channelId);
-    void deleteSubscriptionId(String subscriptionId);
+    /*
+     * 세션 lease 를 관리하는 메서드
+     * renewLease : 이 노드의 lease 를 갱신합니다.
+     * adoptExpiredSessions : lease 가 만료된 노드의 세션을 최대 count 개 이 노드로 가져오고, 가져온 세션 수를 반환합니다.
+     * findNodeSessionIds : 이 노드에 기록된 세션 id 를 조회합니다.
+     */
+    void renewLease();
+    int adoptExpiredSessions(int count);
+    Set<String> findNodeSessionIds();
+
+    /* 구독 id 의 채널 정보를 조회하는 메서드, 구독 id 는 세션 안에서만 고유합니다. */
+    Optional<Long> findChannelIdBySubscriptionId(String sessionId, String subscriptionId);
 
 }
@@ -0,0 +1,67 @@
+package com.example.naejango.domain.chat.repository;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.LongConsumer;
+
+/**
+ * 특정 시점의 채널 구독자(userId) 목록입니다. 정렬된 long 배열을 그대로 감싸며 변경되지 않습니다.
+ * contains(long), forEachUserId 는 박싱 없이 동작합니다.
+ * Set 으로 사용할 수 있지만 iterator 는 원소마다 Long 을 생성하므로, 많은 구독자를 순회할 때는 forEachUserId 를 사용합니다.
+ */
+public final class SubscriberSnapshot extends AbstractSet<Long> {
+    private static final SubscriberSnapshot EMPTY = new SubscriberSnapshot(new long[0]);
+
+    private final long[] userIds;
+
+    private SubscriberSnapshot(long[] userIds) {
+        this.userIds = userIds;
+    }
+
+    public static SubscriberSnapshot empty() {
+        return EMPTY;
+    }
+
+    /** 정렬된 배열을 복사하지 않고 감쌉니다. 배열은 이후에 변경되지 않아야 합니다. */
+    static SubscriberSnapshot wrap(long[] sortedUserIds) {
+        return sortedUserIds == null || sortedUserIds.length == 0 ? EMPTY : new SubscriberSnapshot(sortedUserIds);
+    }
+
+    public boolean contains(long userId) {
+        return Arrays.binarySearch(userIds, userId) >= 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Long && contains(((Long) o).longValue());
+    }
+
+    public void forEachUserId(LongConsumer action) {
+        for (long userId : userIds) action.accept(userId);
+    }
+
+    @Override
+    public int size() {
+        return userIds.length;
+    }
+
+    @Override
+    public Iterator<Long> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < userIds.length;
+            }
+
+            @Override
+            public Long next() {
+                if (index >= userIds.length) throw new NoSuchElementException();
+                return userIds[index++];
+            }
+        };
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.naejango.domain.notification.application;
+
+import com.example.naejango.domain.notification.domain.NotificationType;
+import com.example.naejango.domain.notification.dto.NotificationPublishDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 알림을 (수신자, 채널) 단위로 모아서 발송합니다.
+ * 첫 알림이 들어온 뒤 window 동안 같은 채널에서 들어온 알림은 하나로 합쳐
+ * "새로운 메세지 N개" 알림 한 건으로 발송합니다.
+ * 합쳐진 알림 수는 notification.chat.coalesced 로 확인할 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ChatNotificationCoalescer {
+    private final NotificationService notificationService;
+    private final long windowMillis;
+    private final ScheduledExecutorService scheduler;
+    private final ConcurrentHashMap<PendingKey, PendingNotification> pending = new ConcurrentHashMap<>();
+
+    private final Counter receivedCounter;
+    private final Counter sentCounter;
+    private final Counter coalescedCounter;
+
+    public ChatNotificationCoalescer(NotificationService notificationService,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${notification.chat.coalesce-window-ms:3000}") long windowMillis) {
+        this.notificationService = notificationService;
+        this.windowMillis = windowMillis;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "chat-notification-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.receivedCounter = meterRegistry.counter("notification.chat.received");
+        this.sentCounter = meterRegistry.counter("notification.chat.sent");
+        this.coalescedCounter = meterRegistry.counter("notification.chat.coalesced");
+        meterRegistry.gaugeMapSize("notification.chat.pending", List.of(), pending);
+    }
+
+    /** 채팅 알림을 접수합니다. 해당 (수신자, 채널)의 첫 알림인 경우 window 이후 발송을 예약합니다. */
+    public void add(NotificationPublishDto requestDto) {
+        receivedCounter.increment();
+        PendingKey key = new PendingKey(requestDto.getReceiverId(), requestDto.getUrl());
+        pending.compute(key, (k, existing) -> {
+            // 새 항목을 만든 스레드가 발송을 예약합니다. compute 밖에서 count 를 확인하면 다른 스레드가 먼저 합칠 수 있습니다.
+            if (existing == null) {
+                scheduler.schedule(() -> flush(key), windowMillis, TimeUnit.MILLISECONDS);
+                return new PendingNotification(requestDto.getContent());
+            }
+            existing.merge(requestDto.getContent());
+            return existing;
+        });
+    }
+
+    /** 대기 중인 (수신자, 채널) 수 */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    /** 종료 시 대기 중인 알림을 모두 발송합니다. */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        new ArrayList<>(pending.keySet()).forEach(this::flush);
+    }
+
+    private void flush(PendingKey key) {
+        PendingNotification notification = pending.remove(key);
+        if (notification == null) return;
+
+        sentCounter.increment();
+        coalescedCounter.increment(notification.count - 1);
+        try {
+            notificationService.send(key.receiverId, NotificationType.CHAT, notification.content(), key.url);
+        } catch (RuntimeException e) {
+            log.error("채팅 알림 발송 실패 : receiverId={}, url={}", key.receiverId, key.url, e);
+        }
+    }
+
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static class PendingKey {
+        private final Long receiverId;
+        private final String url;
+    }
+
+    /* pending 맵의 compute 안에서만 변경됩니다. */
+    private static class PendingNotification {
+        private int count;
+        private String lastContent;
+
+        PendingNotification(String content) {
+            this.count = 1;
+            this.lastContent = content;
+        }
+
+        void merge(String content) {
+            this.count++;
+            this.lastContent = content;
+        }
+
+        String content() {
+            return count == 1 ? lastContent : "새로운 메세지 " + count + "개 : " + lastContent;
+        }
+    }
+}
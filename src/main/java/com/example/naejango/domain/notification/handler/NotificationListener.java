@@ -1,5 +1,6 @@
 package com.example.naejango.domain.notification.handler;
 
+import com.example.naejango.domain.notification.application.ChatNotificationCoalescer;
 import com.example.naejango.domain.notification.application.NotificationService;
 import com.example.naejango.domain.notification.dto.NotificationPublishDto;
 import lombok.RequiredArgsConstructor;
@@ -12,11 +13,18 @@ import org.springframework.transaction.event.TransactionalEventListener;
 public class NotificationListener {
 
     private final NotificationService notificationService;
+    private final ChatNotificationCoalescer chatNotificationCoalescer;
 
-    @TransactionalEventListener
+    @TransactionalEventListener(condition = "#requestDto.notificationType != T(com.example.naejango.domain.notification.domain.NotificationType).CHAT")
     @Async
     public void handleNotification(NotificationPublishDto requestDto) {
         notificationService.send(requestDto.getReceiverId(), requestDto.getNotificationType(),
                 requestDto.getContent(), requestDto.getUrl());
     }
-}
\ No newline at end of file
+
+    /** 채팅 알림은 (수신자, 채널) 단위로 모아서 발송하므로 비동기 작업을 만들지 않습니다. */
+    @TransactionalEventListener(condition = "#requestDto.notificationType == T(com.example.naejango.domain.notification.domain.NotificationType).CHAT")
+    public void handleChatNotification(NotificationPublishDto requestDto) {
+        chatNotificationCoalescer.add(requestDto);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.naejango.domain.user.application;
+
+import com.example.naejango.domain.user.repository.UserProfileRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원의 마지막 로그인 시각을 메모리에 기록하고 주기적으로 userprofile 테이블에 반영합니다.
+ * 인증은 요청마다 수행되므로, 한 회원의 로그인 시각은 writeInterval 에 최대 한 번만 기록하고
+ * flushInterval 마다 최대 batchSize 명씩 하나의 트랜잭션으로 반영합니다.
+ */
+@Slf4j
+@Service
+public class LastLoginRecorder {
+    private final UserProfileRepository userProfileRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long writeIntervalMillis;
+    private final long flushIntervalMillis;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+
+    /* userId -> 마지막으로 기록한 시각(ms), writeInterval 이 지나면 정리합니다. */
+    private final ConcurrentHashMap<Long, Long> recordedAt = new ConcurrentHashMap<>();
+    /* userId -> 반영할 로그인 시각 */
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+
+    public LastLoginRecorder(UserProfileRepository userProfileRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${user.last-login.write-interval-ms:300000}") long writeIntervalMillis,
+                             @Value("${user.last-login.flush-interval-ms:10000}") long flushIntervalMillis,
+                             @Value("${user.last-login.batch-size:500}") int batchSize) {
+        this.userProfileRepository = userProfileRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.writeIntervalMillis = writeIntervalMillis;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.batchSize = batchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "last-login-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.scheduleWithFixedDelay(this::flushSafely, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /** 종료 시 남은 로그인 시각을 반영합니다. */
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        int flushed;
+        do {
+            flushed = flushSafely();
+        } while (flushed > 0 && !pending.isEmpty());
+    }
+
+    /** 로그인 시각을 기록합니다. 마지막 기록 후 writeInterval 이 지나지 않았으면 무시합니다. */
+    public void record(Long userId) {
+        long now = System.currentTimeMillis();
+        recordedAt.compute(userId, (id, lastRecordedAt) -> {
+            if (lastRecordedAt != null && now - lastRecordedAt < writeIntervalMillis) return lastRecordedAt;
+            pending.put(id, LocalDateTime.now());
+            return now;
+        });
+    }
+
+    /** 반영되지 않은 로그인 시각을 삭제합니다. (회원 탈퇴) */
+    public void forget(Long userId) {
+        recordedAt.remove(userId);
+        pending.remove(userId);
+    }
+
+    /**
+     * 기록된 로그인 시각을 최대 batchSize 명 반영합니다.
+     * 반영에 실패하면 다음 주기에 다시 반영하도록 되돌려 놓습니다.
+     * @return 반영한 회원 수
+     */
+    public int flush() {
+        long now = System.currentTimeMillis();
+        recordedAt.values().removeIf(lastRecordedAt -> now - lastRecordedAt >= writeIntervalMillis);
+
+        Map<Long, LocalDateTime> batch = new HashMap<>();
+        for (Map.Entry<Long, LocalDateTime> entry : pending.entrySet()) {
+            if (batch.size() >= batchSize) break;
+            if (pending.remove(entry.getKey(), entry.getValue())) batch.put(entry.getKey(), entry.getValue());
+        }
+        if (batch.isEmpty()) return 0;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(userProfileRepository::updateLastLogin));
+            return batch.size();
+        } catch (RuntimeException e) {
+            // 그 사이 새로 기록된 시각이 있으면 그 값을 유지합니다.
+            batch.forEach(pending::putIfAbsent);
+            throw e;
+        }
+    }
+
+    private int flushSafely() {
+        try {
+            return flush();
+        } catch (RuntimeException e) {
+            log.error("마지막 로그인 시각 반영 실패", e);
+            return 0;
+        }
+    }
+}
@@ -9,9 +9,11 @@ import com.example.naejango.domain.user.domain.Gender;
 import com.example.naejango.domain.user.domain.Role;
 import com.example.naejango.domain.user.domain.User;
 import com.example.naejango.domain.user.domain.UserProfile;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
 import com.example.naejango.domain.user.dto.CreateUserProfileCommandDto;
 import com.example.naejango.domain.user.dto.ModifyUserProfileCommandDto;
 import com.example.naejango.domain.user.dto.UserProfileDto;
+import com.example.naejango.domain.user.repository.AuthenticatedUserCache;
 import com.example.naejango.domain.user.repository.UserProfileRepository;
 import com.example.naejango.domain.user.repository.UserRepository;
 import com.example.naejango.domain.wish.repository.WishRepository;
@@ -39,6 +41,8 @@ public class UserService {
     private final JwtValidator jwtValidator;
     private final StorageService storageService;
     private final ChatService chatService;
+    private final LastLoginRecorder lastLoginRecorder;
+    private final AuthenticatedUserCache authenticatedUserCache;
 
     /** 유저 프로필 및 계좌 생성 (회원 가입) */
     @Transactional
@@ -57,6 +61,7 @@ public class UserService {
 
         // 유저에 할당하고 Role 을 User 로 바꿉니다.
         user.setUserProfile(userProfile);
+        authenticatedUserCache.invalidate(user.getId());
     }
 
     /** 유저 생성 */
@@ -116,28 +121,31 @@ public class UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USERPROFILE_NOT_FOUND));
 
         userProfile.modifyUserProfile(commandDto.getNickname(), commandDto.getIntro(), commandDto.getImgUrl());
+        authenticatedUserCache.invalidate(commandDto.getUserId());
     }
 
-    /** 로그인 */
-    @Transactional
-    public User login(Long userId) {
-        User user = userRepository.findUserWithProfileById(userId)
+    /**
+     * 로그인
+     * 회원 정보는 AuthenticatedUserCache 에서 조회하고,
+     * 마지막 로그인 시각은 LastLoginRecorder 가 주기적으로 반영하므로 조회만 수행합니다.
+     */
+    public AuthenticatedUserDto login(Long userId) {
+        AuthenticatedUserDto user = authenticatedUserCache.find(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
         if (!user.getRole().equals(Role.TEMPORAL)) {
-            user.getUserProfile().setLastLogin();
+            lastLoginRecorder.record(userId);
         }
         return user;
     }
 
     // Exception 을 현재 다 따로 만들었는데, 추상화에 대한 고려가 부족했던 것 같다. 리팩토링 필요...
-    @Transactional
-    public User webSocketLogin(Long userId) {
-        User user = userRepository.findUserWithProfileById(userId)
+    public AuthenticatedUserDto webSocketLogin(Long userId) {
+        AuthenticatedUserDto user = authenticatedUserCache.find(userId)
                 .orElseThrow(() -> new WebSocketException(ErrorCode.USER_NOT_FOUND));
         if (user.getRole().equals(Role.TEMPORAL)) {
             throw new WebSocketException(ErrorCode.UNAUTHORIZED);
         }
-        user.getUserProfile().setLastLogin();
+        lastLoginRecorder.record(userId);
         return user;
     }
 
@@ -148,7 +156,7 @@ public class UserService {
      * Storage: 삭제 (연관 Item, Transaction, GroupChannel 처리)
      * review: 그냥 두기
      * follow, wish: 모두 삭제 처리
-     * chat: 모두 삭제 처리 (chatMessage 도 삭제됨)
+     * chat: 모두 삭제 처리
      */
     @Transactional
     public void deleteUser(Long userId, String refreshToken) throws CustomException {
@@ -174,6 +182,8 @@ public class UserService {
         // 유저 권한 변경 및 유저 프로필 변경
         user.deleteUser();
         user.getUserProfile().deleteUserProfile();
+        lastLoginRecorder.forget(userId);
+        authenticatedUserCache.invalidate(userId);
     }
 
     public Optional<Long> getCommonUser() {
@@ -53,10 +53,6 @@ public class UserProfile extends TimeAuditingEntity {
         this.imgUrl = imgUrl;
     }
 
-    public void setLastLogin() {
-        this.lastLogin = LocalDateTime.now();
-    }
-
     public void deleteUserProfile() {
         this.nickname = "탈퇴회원";
         this.intro = "";
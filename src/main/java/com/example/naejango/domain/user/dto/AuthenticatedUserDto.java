@@ -0,0 +1,21 @@
+package com.example.naejango.domain.user.dto;
+
+import com.example.naejango.domain.user.domain.Role;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 인증 객체(PrincipalDetails)에 담는 회원 정보입니다.
+ * 요청마다 User, UserProfile 엔티티를 로드하지 않도록 AuthenticatedUserCache 에 캐싱하며, 생성 이후 변경되지 않습니다.
+ * 프로필을 작성하지 않은 회원(TEMPORAL)은 프로필 정보가 null 입니다.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class AuthenticatedUserDto {
+    private final Long userId;
+    private final Role role;
+    private final String nickname;
+    private final String imgUrl;
+}
@@ -0,0 +1,60 @@
+package com.example.naejango.domain.user.repository;
+
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
+import com.example.naejango.global.common.cache.InvalidatingCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * 인증에 필요한 회원 정보(id, role, 프로필)를 userId 단위로 캐싱합니다.
+ * 유효한 AccessToken 으로 요청할 때 마다 User, UserProfile 을 조회하지 않도록 합니다.
+ * 회원 가입, 프로필 수정, 탈퇴 등 role 이나 프로필이 바뀌는 경우 invalidate 해야 하며,
+ * invalidate 는 Redis 채널을 통해 다른 서버에도 전파됩니다.
+ */
+@Repository
+public class AuthenticatedUserCache implements MessageListener {
+    private static final String INVALIDATION_TOPIC = "user-authentication-invalidation";
+
+    private final UserRepository userRepository;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final InvalidatingCache<AuthenticatedUserDto> cache;
+
+    public AuthenticatedUserCache(UserRepository userRepository,
+                                  StringRedisTemplate stringRedisTemplate,
+                                  RedisMessageListenerContainer listenerContainer,
+                                  @Value("${user.authentication-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.listenerContainer = listenerContainer;
+        this.cache = new InvalidatingCache<>("회원 캐시", INVALIDATION_TOPIC, stringRedisTemplate, maxSize);
+    }
+
+    @PostConstruct
+    public void subscribeInvalidation() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_TOPIC));
+    }
+
+    /** 회원 정보를 조회합니다. 회원이 없는 경우 빈 값을 반환합니다. */
+    public Optional<AuthenticatedUserDto> find(Long userId) {
+        return cache.find(userId, userRepository::findAuthenticatedUserById);
+    }
+
+    /** 회원의 캐시를 삭제합니다. */
+    public void invalidate(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    /** 다른 서버에서 발행한 invalidate 를 수신합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.receive(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -2,10 +2,12 @@ package com.example.naejango.domain.user.repository;
 
 import com.example.naejango.domain.user.domain.UserProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
@@ -13,5 +15,14 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     @Query("SELECT up FROM User u JOIN u.userProfile up WHERE u.id = :userId")
     Optional<UserProfile> findUserProfileByUserId(@Param("userId") Long UserId);
 
+    /**
+     * 회원의 마지막 로그인 시각을 반영합니다. (LastLoginRecorder)
+     * 엔티티를 로드하지 않고 한 컬럼만 갱신하며, 탈퇴한 회원은 갱신하지 않습니다.
+     */
+    @Modifying
+    @Query("UPDATE UserProfile up SET up.lastLogin = :lastLogin WHERE up.id IN " +
+            "(SELECT u.userProfile.id FROM User u WHERE u.id = :userId " +
+            "AND u.role <> com.example.naejango.domain.user.domain.Role.DELETED)")
+    int updateLastLogin(@Param("userId") Long userId, @Param("lastLogin") LocalDateTime lastLogin);
 
 }
@@ -2,8 +2,11 @@ package com.example.naejango.domain.user.repository;
 
 import com.example.naejango.domain.user.domain.Role;
 import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -15,4 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
     void deleteUserById(long id);
     Optional<User> findByUserKey(String userKey);
     Optional<User> findByRole(Role role);
+
+    /** 인증에 필요한 회원 정보만 조회합니다. (AuthenticatedUserCache) */
+    @Query("SELECT NEW com.example.naejango.domain.user.dto.AuthenticatedUserDto(u.id, u.role, up.nickname, up.imgUrl) " +
+            "FROM User u LEFT JOIN u.userProfile up WHERE u.id = :userId")
+    Optional<AuthenticatedUserDto> findAuthenticatedUserById(@Param("userId") Long userId);
 }
@@ -27,19 +27,19 @@ public class TestProxyBeanConfig {
     private DefaultPointcutAdvisor testAdvisor(){
         DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor();
         NameMatchMethodPointcut pointcut = new NameMatchMethodPointcut();
-        pointcut.addMethodName("deleteSubscriptionIdBySessionId");
-        pointcut.addMethodName("saveSubscriptionIdBySessionId");
-        pointcut.addMethodName("deleteSessionId");
+        pointcut.addMethodName("subscribe");
+        pointcut.addMethodName("unsubscribe");
+        pointcut.addMethodName("disconnect");
         advisor.setPointcut(pointcut);
         advisor.setAdvice((MethodInterceptor) invocation -> {
             switch(invocation.getMethod().getName()){
-                case "saveSubscriptionIdBySessionId":
-                    if(String.valueOf(invocation.getArguments()[1]).equals("subscribe")) throw new TestException();
+                case "subscribe":
+                    if(String.valueOf(invocation.getArguments()[3]).equals("subscribe")) throw new TestException();
                     break;
-                case "deleteSubscriptionIdBySessionId":
-                    if(String.valueOf(invocation.getArguments()[1]).equals("unsubscribe")) throw new TestException();
+                case "unsubscribe":
+                    if(String.valueOf(invocation.getArguments()[0]).equals("unsubscribe")) throw new TestException();
                     break;
-                case "deleteSessionId":
+                case "disconnect":
                     if(String.valueOf(invocation.getArguments()[0]).equals("disconnect")) throw new TestException();
                     break;
             }
@@ -39,12 +39,16 @@ public class AuthController {
     /**
      * 현재 가지고 있는 RefreshToken 쿠키(및 AccessToken 쿠키)를 만료시키고
      * User 객체의 Signature 도 null로 설정합니다.
+     * AccessToken 은 만료 시각까지 폐기하여 더 이상 인증에 사용할 수 없습니다.
      */
     @GetMapping("/logout")
     public ResponseEntity<CommonResponseDto<Void>> logout(HttpServletRequest request,
                                                           HttpServletResponse response) {
         // 쿠키 삭제
         jwtCookieHandler.deleteAccessTokenCookie(request, response);
+
+        // 엑세스 토큰 폐기
+        jwtValidator.invalidateAccessToken(request);
         jwtCookieHandler.deleteRefreshTokenCookie(request, response);
 
         // 리프레시 토큰 삭제
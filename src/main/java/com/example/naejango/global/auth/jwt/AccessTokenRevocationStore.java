@@ -0,0 +1,190 @@
+package com.example.naejango.global.auth.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그아웃 등으로 폐기된 AccessToken 을 만료 시각까지 저장합니다.
+ * 토큰의 digest 를 key 로 Redis 에 저장하며, 토큰의 만료 시각(exp)이 지나면 Redis 의 TTL 로 삭제됩니다.
+ * 요청마다 Redis 를 조회하지 않도록 각 서버는 폐기된 토큰의 Bloom filter 를 가지고 있으며,
+ * Bloom filter 에 있는 경우(폐기되었을 수 있는 경우)에만 Redis 에서 확인합니다.
+ * 폐기는 Redis 채널을 통해 다른 서버의 Bloom filter 에도 전파되고,
+ * 만료된 토큰을 비우고 누락된 전파를 반영하기 위해 rebuildInterval 마다 Redis 의 폐기 목록으로 Bloom filter 를 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenRevocationStore implements MessageListener {
+    private static final String KEY_PREFIX = "Revoked_Access_Token:";
+    private static final String REVOCATION_TOPIC = "access-token-revocation";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rebuildIntervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile TokenBloomFilter filter;
+    /* 다시 만드는 중인 Bloom filter, 그 사이 폐기된 토큰은 양쪽에 추가합니다. */
+    private TokenBloomFilter rebuilding;
+    /*
+     * filter 교체와 폐기된 토큰의 추가를 직렬화합니다.
+     * 추가하는 사이에 filter 가 교체되면 교체 전 filter 에만 추가되어 폐기가 누락될 수 있기 때문입니다.
+     */
+    private final Object filterLock = new Object();
+
+    private final Counter passCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+
+    public AccessTokenRevocationStore(StringRedisTemplate stringRedisTemplate,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${jwt.revocation.expected-insertions:100000}") int expectedInsertions,
+                                      @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+                                      @Value("${jwt.revocation.rebuild-interval-ms:300000}") long rebuildIntervalMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildIntervalMillis = rebuildIntervalMillis;
+        this.filter = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "access-token-revocation-rebuilder");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.passCounter = meterRegistry.counter("jwt.revocation.checks", "result", "pass");
+        this.revokedCounter = meterRegistry.counter("jwt.revocation.checks", "result", "revoked");
+        this.falsePositiveCounter = meterRegistry.counter("jwt.revocation.checks", "result", "false-positive");
+    }
+
+    /** 전파를 구독한 뒤 Bloom filter 를 만들어, 그 사이 폐기된 토큰이 누락되지 않도록 합니다. */
+    @PostConstruct
+    public void start() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(REVOCATION_TOPIC));
+        rebuildSafely();
+        scheduler.scheduleWithFixedDelay(this::rebuildSafely, rebuildIntervalMillis, rebuildIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 토큰을 만료 시각까지 폐기합니다.
+     * @param expiresAtMillis 토큰의 만료 시각
+     */
+    public void revoke(String token, long expiresAtMillis) {
+        long ttlMillis = expiresAtMillis - System.currentTimeMillis();
+        if (ttlMillis <= 0) return;
+
+        byte[] digest = TokenDigest.sha256(token);
+        String encodedDigest = TokenDigest.encode(digest);
+        stringRedisTemplate.opsForValue().set(KEY_PREFIX + encodedDigest, "", Duration.ofMillis(ttlMillis));
+        addToFilter(digest);
+        try {
+            stringRedisTemplate.convertAndSend(REVOCATION_TOPIC, encodedDigest);
+        } catch (RuntimeException e) {
+            // 다른 서버는 다음 rebuild 에서 반영합니다.
+            log.error("토큰 폐기 전파 실패", e);
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다.
+     * Bloom filter 에 있는 경우에만 Redis 에서 확인하며, Redis 에서 확인할 수 없으면 폐기된 토큰으로 처리합니다.
+     */
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        if (!filter.mightContain(digest)) {
+            passCounter.increment();
+            return false;
+        }
+
+        boolean revoked;
+        try {
+            revoked = Boolean.TRUE.equals(stringRedisTemplate.hasKey(KEY_PREFIX + TokenDigest.encode(digest)));
+        } catch (RuntimeException e) {
+            log.error("토큰 폐기 여부 확인 실패", e);
+            revoked = true;
+        }
+        if (revoked) revokedCounter.increment();
+        else falsePositiveCounter.increment();
+        return revoked;
+    }
+
+    /**
+     * Redis 에 남아있는(만료되지 않은) 폐기 목록으로 Bloom filter 를 다시 만듭니다.
+     * @return Bloom filter 에 추가한 토큰 수
+     */
+    public int rebuild() {
+        TokenBloomFilter next = new TokenBloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (filterLock) {
+            rebuilding = next;
+        }
+        try {
+            int count = 0;
+            ScanOptions scanOptions = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+            try (Cursor<String> cursor = stringRedisTemplate.scan(scanOptions)) {
+                while (cursor.hasNext()) {
+                    next.put(TokenDigest.decode(cursor.next().substring(KEY_PREFIX.length())));
+                    count++;
+                }
+            }
+            synchronized (filterLock) {
+                filter = next;
+                rebuilding = null;
+            }
+            return count;
+        } finally {
+            synchronized (filterLock) {
+                if (rebuilding == next) rebuilding = null;
+            }
+        }
+    }
+
+    /** 다른 서버에서 폐기한 토큰을 수신합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            addToFilter(TokenDigest.decode(new String(message.getBody(), StandardCharsets.UTF_8)));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 토큰 폐기 메세지 : {}", message);
+        }
+    }
+
+    private void addToFilter(byte[] digest) {
+        synchronized (filterLock) {
+            filter.put(digest);
+            if (rebuilding != null) rebuilding.put(digest);
+        }
+    }
+
+    private void rebuildSafely() {
+        try {
+            rebuild();
+        } catch (RuntimeException e) {
+            log.warn("폐기된 토큰 목록 갱신 실패", e);
+        }
+    }
+}
@@ -1,7 +1,7 @@
 package com.example.naejango.global.auth.jwt;
 
 import com.example.naejango.domain.user.application.UserService;
-import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
 import com.example.naejango.global.auth.principal.PrincipalDetails;
 import com.example.naejango.global.common.exception.ErrorCode;
 import com.example.naejango.global.common.exception.WebSocketException;
@@ -60,7 +60,7 @@ public class JwtAuthenticator {
     }
 
     private Authentication getPrincipal (Long userId){
-        User user = userService.login(userId);
+        AuthenticatedUserDto user = userService.login(userId);
         PrincipalDetails principalDetails = new PrincipalDetails(user);
         return new UsernamePasswordAuthenticationToken(
                 principalDetails,
@@ -70,9 +70,9 @@ public class JwtAuthenticator {
     }
 
     private Authentication getWebSocketPrincipal(Long userId) {
-        User user = userService.webSocketLogin(userId);
+        AuthenticatedUserDto user = userService.webSocketLogin(userId);
         return new UsernamePasswordAuthenticationToken(
-                user.getId(),
+                user.getUserId(),
                 null,
                 Collections.singletonList(() -> "ROLE_" + user.getRole().toString())
         );
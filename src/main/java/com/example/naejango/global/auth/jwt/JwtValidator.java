@@ -4,11 +4,11 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.example.naejango.domain.user.domain.Role;
 import com.example.naejango.global.auth.repository.RefreshTokenRepository;
 import com.example.naejango.global.common.exception.CustomException;
 import com.example.naejango.global.common.exception.ErrorCode;
-import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.stereotype.Component;
 
@@ -16,19 +16,63 @@ import javax.servlet.http.HttpServletRequest;
 import java.time.Instant;
 import java.util.Optional;
 
+/**
+ * 토큰의 서명과 만료 시각을 검증합니다.
+ * 검증기(JWTVerifier)는 처음 한 번만 만들어 재사용하며, 검증을 마친 AccessToken 은 VerifiedTokenCache 에 만료 시각까지 캐싱합니다.
+ * 로그아웃한 AccessToken 은 AccessTokenRevocationStore 에 만료 시각까지 폐기되며, 캐싱된 토큰도 폐기 여부를 확인합니다.
+ * RefreshToken 은 로그아웃 시 삭제되므로 캐싱하지 않고 매번 저장된 토큰과 비교합니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class JwtValidator {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenRevocationStore accessTokenRevocationStore;
+    private final JWTVerifier accessTokenVerifier;
+    private final JWTVerifier refreshTokenVerifier;
+
+    /* JwtProperties 의 SECRET 이 초기화된 뒤에 검증기를 만들기 위해 JwtProperties 를 주입받습니다. */
+    public JwtValidator(RefreshTokenRepository refreshTokenRepository,
+                        VerifiedTokenCache verifiedTokenCache,
+                        AccessTokenRevocationStore accessTokenRevocationStore,
+                        JwtProperties jwtProperties) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accessTokenRevocationStore = accessTokenRevocationStore;
+        this.accessTokenVerifier = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET_A)).build();
+        this.refreshTokenVerifier = JWT.require(Algorithm.HMAC512(JwtProperties.SECRET_B)).build();
+    }
 
     public Optional<JwtPayload> validateAccessToken(String accessToken) {
         if (accessToken == null) return Optional.empty();
 
+        // 폐기된 토큰
+        if (accessTokenRevocationStore.isRevoked(accessToken)) return Optional.empty();
+
+        // 이미 검증한 토큰
+        Optional<JwtPayload> cached = verifiedTokenCache.find(accessToken);
+        if (cached.isPresent()) return cached;
+
         DecodedJWT decodedAccessToken = decodeAccessToken(accessToken);
         if (isExpiredToken(decodedAccessToken)) return Optional.empty();
 
-        return Optional.ofNullable(getJwtPayload(decodedAccessToken));
+        JwtPayload jwtPayload = getJwtPayload(decodedAccessToken);
+        verifiedTokenCache.put(accessToken, jwtPayload, decodedAccessToken.getExpiresAt().getTime());
+        return Optional.of(jwtPayload);
+    }
+
+    /** 로그아웃한 AccessToken 을 만료 시각까지 폐기하고 캐시에서 삭제합니다. */
+    public void invalidateAccessToken(HttpServletRequest request) {
+        String accessToken = getAccessToken(request);
+        if (accessToken == null) return;
+
+        try {
+            DecodedJWT decodedAccessToken = accessTokenVerifier.verify(accessToken);
+            accessTokenRevocationStore.revoke(accessToken, decodedAccessToken.getExpiresAt().getTime());
+        } catch (JWTVerificationException | IllegalArgumentException e) {
+            // 유효하지 않은 토큰은 폐기할 필요가 없습니다.
+        }
+        verifiedTokenCache.evict(accessToken);
     }
 
     public Optional<JwtPayload> validateRefreshToken(String refreshToken) {
@@ -71,7 +115,7 @@ public class JwtValidator {
 
     private DecodedJWT decodeAccessToken(String accessToken){
         try {
-            return JWT.require(Algorithm.HMAC512(JwtProperties.SECRET_A)).build().verify(accessToken);
+            return accessTokenVerifier.verify(accessToken);
         } catch (JWTVerificationException | IllegalArgumentException e) {
             // Token 이 있으나 복호화 실패
             throw new CustomException(ErrorCode.TOKEN_DECRYPTION_FAILURE);
@@ -80,7 +124,7 @@ public class JwtValidator {
 
     private DecodedJWT decodeRefreshToken(String refreshToken){
         try {
-            return JWT.require(Algorithm.HMAC512(JwtProperties.SECRET_B)).build().verify(refreshToken);
+            return refreshTokenVerifier.verify(refreshToken);
         } catch (JWTVerificationException | IllegalArgumentException e) {
             // Token 이 있으나 복호화 실패
             throw new CustomException(ErrorCode.TOKEN_DECRYPTION_FAILURE);
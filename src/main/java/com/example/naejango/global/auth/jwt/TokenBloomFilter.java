@@ -0,0 +1,48 @@
+package com.example.naejango.global.auth.jwt;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 토큰 digest 의 Bloom filter 입니다.
+ * mightContain 이 false 이면 추가된 적 없는 digest 이며, true 인 경우 falsePositiveRate 의 확률로 추가된 적 없는 digest 일 수 있습니다.
+ * digest(SHA-256) 는 이미 고르게 분포되어 있으므로 앞의 16 byte 를 두 개의 해시 값으로 사용합니다. (double hashing)
+ */
+final class TokenBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    TokenBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        long optimalBitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (optimalBitCount + 63) / 64);
+        this.bits = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = (int) Math.max(1, Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void put(byte[] digest) {
+        long hash1 = toLong(digest, 0);
+        long hash2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << index;
+            bits.getAndAccumulate((int) (index >>> 6), mask, (word, bit) -> word | bit);
+        }
+    }
+
+    boolean mightContain(byte[] digest) {
+        long hash1 = toLong(digest, 0);
+        long hash2 = toLong(digest, 8);
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+        }
+        return true;
+    }
+
+    private static long toLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = offset; i < offset + 8; i++) value = (value << 8) | (bytes[i] & 0xFF);
+        return value;
+    }
+}
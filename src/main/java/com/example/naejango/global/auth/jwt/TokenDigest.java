@@ -0,0 +1,31 @@
+package com.example.naejango.global.auth.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/** 토큰 원문 대신 저장, 비교에 사용하는 SHA-256 digest 를 만듭니다. */
+final class TokenDigest {
+    private TokenDigest() {
+    }
+
+    static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static String encode(byte[] digest) {
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    /** @throws IllegalArgumentException SHA-256 digest 가 아닌 경우 */
+    static byte[] decode(String encodedDigest) {
+        byte[] digest = Base64.getDecoder().decode(encodedDigest);
+        if (digest.length != 32) throw new IllegalArgumentException("SHA-256 digest 가 아닙니다.");
+        return digest;
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.naejango.global.auth.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 서명 검증을 마친 AccessToken 의 JwtPayload 를 캐싱합니다.
+ * 토큰 원문 대신 SHA-256 digest 를 key 로 저장하며, 각 항목은 토큰의 만료 시각(exp)까지만 사용합니다.
+ * 같은 토큰으로 반복되는 요청은 HMAC 서명 검증과 claim 파싱을 생략합니다.
+ * 최근에 조회한 순서를 유지하는 LRU 캐시로, 크기가 max-size 를 넘으면 가장 오래 사용하지 않은 항목 하나를 삭제합니다.
+ * 만료된 항목은 조회할 때 삭제되며, 조회되지 않는 항목은 LRU 순서에 따라 밀려납니다.
+ */
+@Component
+public class VerifiedTokenCache {
+    private final boolean enabled;
+    private final Map<String, CachedPayload> cache;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public VerifiedTokenCache(MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.enabled:true}") boolean enabled,
+                              @Value("${jwt.token-cache.max-size:10000}") int maxSize) {
+        this.enabled = enabled;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPayload> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hitCounter = meterRegistry.counter("jwt.token-cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.token-cache.requests", "result", "miss");
+        meterRegistry.gauge("jwt.token-cache.size", this, VerifiedTokenCache::size);
+    }
+
+    /** 만료되지 않은 토큰의 JwtPayload 를 조회합니다. */
+    public Optional<JwtPayload> find(String token) {
+        if (!enabled) return Optional.empty();
+        String key = digest(token);
+        CachedPayload entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && entry.isExpired(System.currentTimeMillis())) {
+                cache.remove(key);
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            missCounter.increment();
+            return Optional.empty();
+        }
+        hitCounter.increment();
+        return Optional.of(entry.payload);
+    }
+
+    /** 서명 검증을 마친 토큰을 만료 시각까지 저장합니다. */
+    public void put(String token, JwtPayload payload, long expiresAtMillis) {
+        if (!enabled || expiresAtMillis <= System.currentTimeMillis()) return;
+        String key = digest(token);
+        synchronized (cache) {
+            cache.put(key, new CachedPayload(payload, expiresAtMillis));
+        }
+    }
+
+    /** 토큰을 캐시에서 삭제합니다. */
+    public void evict(String token) {
+        String key = digest(token);
+        synchronized (cache) {
+            cache.remove(key);
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String digest(String token) {
+        return TokenDigest.encode(TokenDigest.sha256(token));
+    }
+
+    private static final class CachedPayload {
+        private final JwtPayload payload;
+        private final long expiresAtMillis;
+
+        private CachedPayload(JwtPayload payload, long expiresAtMillis) {
+            this.payload = payload;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.naejango.global.auth.principal;
 
 import com.example.naejango.domain.user.domain.Role;
 import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -13,16 +14,21 @@ import java.util.Map;
 
 @Getter
 public class PrincipalDetails implements UserDetails, OAuth2User {
-    private final User user;
+    private final AuthenticatedUserDto user;
 
     public Role getRole() {
         return this.user.getRole();
     }
 
-    public PrincipalDetails(User user) {
+    public PrincipalDetails(AuthenticatedUserDto user) {
         this.user = user;
     }
 
+    /* OAuth 로그인 시에는 UserProfile 을 로드하지 않으므로 id, role 만 담습니다. */
+    public PrincipalDetails(User user) {
+        this(new AuthenticatedUserDto(user.getId(), user.getRole(), null, null));
+    }
+
     @Override
     public <A> A getAttribute(String name) {
         return null;
@@ -41,14 +47,15 @@ public class PrincipalDetails implements UserDetails, OAuth2User {
     }
 
 
+    /* 인증은 OAuth, JWT 로만 수행하므로 비밀번호를 사용하지 않습니다. */
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return String.valueOf(user.getId());
+        return String.valueOf(user.getUserId());
     }
 
     @Override
@@ -0,0 +1,127 @@
+package com.example.naejango.global.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Long key 단위로 값을 서버 메모리에 캐싱하고, invalidate 를 Redis 채널(topic)을 통해 다른 서버에 전파하는 캐시입니다.
+ * 트랜잭션 안에서 invalidate 한 경우 트랜잭션 종료(커밋, 롤백) 이후에 삭제하여,
+ * 커밋 전의 데이터나 롤백된 데이터가 캐시에 남지 않도록 합니다.
+ * 조회 중에 invalidate 된 경우 조회 결과가 오래된 값일 수 있으므로 캐싱하지 않습니다.
+ *
+ * 이 캐시를 사용하는 쪽에서 topic 을 구독하고, 다른 서버가 발행한 메세지를 receive 로 넘겨주어야 합니다.
+ * 크기가 max-size 에 도달하면 임의의 항목 하나를 삭제합니다.
+ */
+@Slf4j
+public class InvalidatingCache<V> {
+    private final String name;
+    private final String topic;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final int maxSize;
+
+    private final ConcurrentHashMap<Long, V> cache = new ConcurrentHashMap<>();
+
+    /* invalidate 될 때마다 증가합니다. 조회 중에 invalidate 된 경우 조회 결과를 캐싱하지 않습니다. */
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    /**
+     * @param name 로그에 표시할 캐시 이름
+     * @param topic invalidate 를 전파할 Redis 채널
+     */
+    public InvalidatingCache(String name, String topic, StringRedisTemplate stringRedisTemplate, int maxSize) {
+        this.name = name;
+        this.topic = topic;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.maxSize = maxSize;
+    }
+
+    /** 캐싱된 값을 조회합니다. 없는 경우 null 을 반환합니다. */
+    public V getIfPresent(Long key) {
+        return cache.get(key);
+    }
+
+    /** 캐싱된 값을 조회하고, 없는 경우 loader 로 조회하여 캐싱합니다. */
+    public Optional<V> find(Long key, Function<Long, Optional<V>> loader) {
+        V cached = cache.get(key);
+        if (cached != null) return Optional.of(cached);
+        return load(key, loader);
+    }
+
+    /** loader 로 조회하여 캐싱합니다. 빈 값은 캐싱하지 않습니다. */
+    public Optional<V> load(Long key, Function<Long, Optional<V>> loader) {
+        long countBeforeLoad = invalidationCount.get();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> {
+            if (invalidationCount.get() != countBeforeLoad) return;
+            evictIfFull();
+            cache.put(key, value);
+            // 저장하는 사이에 invalidate 된 경우 방금 저장한 값을 되돌립니다.
+            if (invalidationCount.get() != countBeforeLoad) cache.remove(key, value);
+        });
+        return loaded;
+    }
+
+    /** key 의 캐시를 삭제하고 다른 서버에 전파합니다. */
+    public void invalidate(Long key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateAndBroadcast(key);
+                }
+            });
+            return;
+        }
+        invalidateAndBroadcast(key);
+    }
+
+    /** 다른 서버에서 발행한 invalidate 메세지를 반영합니다. */
+    public void receive(String body) {
+        try {
+            evict(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 {} invalidate 메세지 : {}", name, body);
+        }
+    }
+
+    /** 모든 캐시를 삭제합니다. 다른 서버에 전파하지 않습니다. */
+    public void evictAll() {
+        invalidationCount.incrementAndGet();
+        cache.clear();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private void invalidateAndBroadcast(Long key) {
+        evict(key);
+        try {
+            stringRedisTemplate.convertAndSend(topic, String.valueOf(key));
+        } catch (RuntimeException e) {
+            log.error("{} invalidate 전파 실패 : {}", name, key, e);
+        }
+    }
+
+    private void evict(Long key) {
+        invalidationCount.incrementAndGet();
+        cache.remove(key);
+    }
+
+    private void evictIfFull() {
+        if (cache.size() < maxSize) return;
+        Iterator<Long> iterator = cache.keySet().iterator();
+        if (iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+}
@@ -58,7 +58,10 @@ public enum ErrorCode {
     GROUP_CHANNEL_ALREADY_EXIST(HttpStatus.CONFLICT, "해당 아이템에 할당된 그룹 채널이 이미 있습니다."),
     TOKEN_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 리프레시 토큰을 가지고 있습니다. 엑세스 토큰을 재발급 합니다."),
     WISH_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 관심 등록 되어있습니다."),
-    FOLLOW_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 팔로우 등록 되어있습니다.")
+    FOLLOW_ALREADY_EXIST(HttpStatus.CONFLICT, "이미 팔로우 등록 되어있습니다."),
+
+    /** 503 SERVICE_UNAVAILABLE : 일시적으로 요청을 처리할 수 없음 */
+    MESSAGE_QUEUE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "메세지 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.")
     ;
     private final HttpStatus httpStatus;
     private final String message;
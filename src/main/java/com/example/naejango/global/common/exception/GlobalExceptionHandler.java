@@ -5,6 +5,8 @@ import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.validation.ConstraintViolationException;
+
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -18,6 +20,11 @@ public class GlobalExceptionHandler {
         return ValidationResponse.toResponseEntity(e);
     }
 
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<ValidationResponse> ConstraintViolationExceptionHandler(ConstraintViolationException e) {
+        return ValidationResponse.toResponseEntity(e);
+    }
+
     @ExceptionHandler(TokenException.class)
     public ResponseEntity<TokenErrorResponse> TokenExceptionHandler(TokenException exception) {
         return TokenErrorResponse.toHttpResponseEntity(exception.getErrorCode(), exception.getReissuedAccessToken());
@@ -10,6 +10,9 @@ import org.springframework.validation.BindException;
 import org.springframework.validation.BindingResult;
 import org.springframework.validation.FieldError;
 
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import javax.validation.Path;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -30,6 +33,27 @@ public class ValidationResponse {
         return ResponseEntity.badRequest().body(response);
     }
 
+    /** @Validated 컨트롤러의 요청 파라미터 검증 실패 */
+    public static ResponseEntity<ValidationResponse> toResponseEntity (ConstraintViolationException e) {
+        ValidationResponse response = ValidationResponse.builder()
+                .status(HttpStatus.BAD_REQUEST.value())
+                .error(HttpStatus.BAD_REQUEST.name())
+                .exceptions(e.getConstraintViolations().stream()
+                        .map(ValidationResponse::toValidationError)
+                        .collect(Collectors.toList())).build();
+        return ResponseEntity.badRequest().body(response);
+    }
+
+    private static ValidationError toValidationError(ConstraintViolation<?> violation) {
+        // 메서드 이름을 제외한 파라미터 이름 (ex. getMessagesBefore.limit -> limit)
+        String field = null;
+        for (Path.Node node : violation.getPropertyPath()) field = node.getName();
+        return new ValidationError(
+                field,
+                violation.getInvalidValue() == null ? "" : violation.getInvalidValue().toString(),
+                violation.getMessage());
+    }
+
     private static List<ValidationError> toValidationErrorList(BindingResult bindingResult) {
         List<FieldError> fieldErrors = bindingResult.getFieldErrors();
         return fieldErrors.stream().map(error ->
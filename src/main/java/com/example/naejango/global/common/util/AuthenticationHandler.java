@@ -1,7 +1,7 @@
 package com.example.naejango.global.common.util;
 
 import com.example.naejango.domain.user.domain.Role;
-import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
 import com.example.naejango.global.auth.principal.PrincipalDetails;
 import com.example.naejango.global.common.exception.CustomException;
 import com.example.naejango.global.common.exception.ErrorCode;
@@ -18,7 +18,7 @@ public class AuthenticationHandler {
         Object principal = authentication.getPrincipal();
         if (principal instanceof PrincipalDetails) {
             PrincipalDetails principalDetails = (PrincipalDetails) authentication.getPrincipal();
-            return principalDetails.getUser().getId();
+            return principalDetails.getUser().getUserId();
         }
         if (principal instanceof Long) {
             return (Long) principal;
@@ -31,7 +31,7 @@ public class AuthenticationHandler {
         return getUserId(authentication);
     }
 
-    public User getUser(Authentication authentication) {
+    public AuthenticatedUserDto getUser(Authentication authentication) {
         if(authentication == null) {
             throw new CustomException(ErrorCode.NOT_AUTHENTICATED);
         }
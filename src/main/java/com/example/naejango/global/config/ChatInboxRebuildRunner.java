@@ -0,0 +1,46 @@
+package com.example.naejango.global.config;
+
+import com.example.naejango.domain.chat.repository.ChatInboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * chat_inbox 를 chat, channel, message 로부터 다시 계산합니다.
+ * 배포 직후 기존 데이터를 채우거나(backfill) inbox 가 어긋났을 때 실행합니다.
+ * --rebuild-chat-inbox=true 옵션으로 실행하며, chat id 구간 단위로 나누어 각각의 트랜잭션으로 처리합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "rebuild-chat-inbox", havingValue = "true")
+public class ChatInboxRebuildRunner implements ApplicationRunner {
+    private final ChatInboxRepository chatInboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public ChatInboxRebuildRunner(ChatInboxRepository chatInboxRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${chat.inbox.rebuild-chunk-size:5000}") int chunkSize) {
+        this.chatInboxRepository = chatInboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long maxChatId = chatInboxRepository.findMaxChatId();
+        long rebuilt = 0;
+        for (long from = 0; from < maxChatId; from += chunkSize) {
+            long to = from + chunkSize;
+            long fromChatId = from;
+            Integer count = transactionTemplate.execute(status -> chatInboxRepository.rebuild(fromChatId, to));
+            rebuilt += count == null ? 0 : count;
+        }
+        Integer deleted = transactionTemplate.execute(status -> chatInboxRepository.deleteOrphans());
+        log.info("chat_inbox 재계산 완료 : {} 건 계산, {} 건 삭제", rebuilt, deleted);
+    }
+}
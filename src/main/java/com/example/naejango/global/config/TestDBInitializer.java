@@ -2,6 +2,7 @@ package com.example.naejango.global.config;
 
 import com.example.naejango.domain.account.domain.Account;
 import com.example.naejango.domain.chat.domain.*;
+import com.example.naejango.domain.chat.repository.ChatInboxRepository;
 import com.example.naejango.domain.item.domain.Item;
 import com.example.naejango.domain.item.domain.ItemType;
 import com.example.naejango.domain.user.domain.Gender;
@@ -25,6 +26,7 @@ import javax.persistence.PersistenceContext;
 @RequiredArgsConstructor
 public class TestDBInitializer implements ApplicationRunner {
     private final TransactionTemplate transactionTemplate;
+    private final ChatInboxRepository chatInboxRepository;
     @PersistenceContext EntityManager em;
 
     @Override
@@ -72,19 +74,18 @@ public class TestDBInitializer implements ApplicationRunner {
             em.persist(chat1);em.persist(chat2);em.persist(chat3);em.persist(chat4);em.persist(chat5);
 
             // Message 생성
-            Message msg1 = Message.builder().content("메세지1").senderId(user2.getId()).build();
-            Message msg2 = Message.builder().content("메세지2").senderId(user2.getId()).build();
+            Message msg1 = Message.builder().content("메세지1").senderId(user2.getId()).channel(channel1).build();
+            Message msg2 = Message.builder().content("메세지2").senderId(user2.getId()).channel(channel2).build();
             em.persist(msg1);em.persist(msg2);
 
-            // Chat - Message 연결
-            ChatMessage chatMessage1 = ChatMessage.builder().message(msg1).isRead(false).chat(chat1).build();
-            ChatMessage chatMessage2 = ChatMessage.builder().message(msg1).isRead(true).chat(chat2).build();
-            ChatMessage chatMessage3 = ChatMessage.builder().message(msg2).isRead(true).chat(chat3).build();
-            ChatMessage chatMessage4 = ChatMessage.builder().message(msg2).isRead(true).chat(chat4).build();
-            ChatMessage chatMessage5 = ChatMessage.builder().message(msg2).isRead(false).chat(chat5).build();
-            em.persist(chatMessage1);em.persist(chatMessage2);em.persist(chatMessage3);em.persist(chatMessage4);em.persist(chatMessage5);
+            // 읽음 처리 / chat1, chat5 는 읽지 않은 메세지 1개
+            chat2.readMessage(msg1.getId());chat3.readMessage(msg2.getId());chat4.readMessage(msg2.getId());
             channel1.updateLastMessage(msg1.getContent());
             channel2.updateLastMessage(msg2.getContent());
+
+            // 채팅 목록(inbox) 계산
+            em.flush();
+            chatInboxRepository.rebuild(0L, Long.MAX_VALUE);
             return null;
         });
     }
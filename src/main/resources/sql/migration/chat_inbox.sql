@@ -0,0 +1,18 @@
+-- 채팅 목록 조회용 읽기 모델(chat_inbox)을 생성합니다.
+-- 데이터는 애플리케이션을 --rebuild-chat-inbox=true 옵션으로 한 번 실행하여 채웁니다. (ChatInboxRebuildRunner)
+-- 애플리케이션 배포 전에 한 번 실행합니다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS chat_inbox (
+    chat_id       BIGINT PRIMARY KEY,
+    owner_id      BIGINT NOT NULL,
+    channel_id    BIGINT NOT NULL,
+    unread_count  INTEGER NOT NULL DEFAULT 0,
+    last_message  VARCHAR(255),
+    last_activity TIMESTAMP NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_chat_inbox_owner_activity ON chat_inbox (owner_id, last_activity);
+CREATE INDEX IF NOT EXISTS idx_chat_inbox_channel_id ON chat_inbox (channel_id);
+
+COMMIT;
@@ -0,0 +1,31 @@
+-- 메세지 읽음 처리를 ChatMessage(메세지 x 참여자 row) 에서 Chat 단위 읽음 위치(watermark)로 변경합니다.
+-- start_message_id     : Chat 에서 조회할 수 있는 메세지의 하한 (이 id 보다 큰 채널의 메세지가 조회됩니다.)
+-- last_read_message_id : 마지막으로 읽은 메세지 id (이 id 보다 큰 채널의 메세지가 읽지 않은 메세지 입니다.)
+-- 애플리케이션 배포 전에 한 번 실행합니다.
+
+BEGIN;
+
+ALTER TABLE chat ADD COLUMN IF NOT EXISTS start_message_id BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE chat ADD COLUMN IF NOT EXISTS last_read_message_id BIGINT NOT NULL DEFAULT 0;
+
+-- 조회 하한 : Chat 에 할당된 가장 오래된 메세지 직전
+-- 할당된 메세지가 없는 Chat 은 채널의 현재 마지막 메세지로 설정합니다.
+UPDATE chat c
+SET start_message_id = COALESCE(
+        (SELECT MIN(cm.message_id) - 1 FROM chat_message cm WHERE cm.chat_id = c.chatroom_id),
+        (SELECT MAX(m.message_id) FROM message m WHERE m.channel_id = c.channel_id),
+        0);
+
+-- 읽음 위치 : 읽지 않은 가장 오래된 메세지 직전, 모두 읽었다면 Chat 에 할당된 마지막 메세지
+UPDATE chat c
+SET last_read_message_id = GREATEST(c.start_message_id, COALESCE(
+        (SELECT MIN(cm.message_id) - 1 FROM chat_message cm WHERE cm.chat_id = c.chatroom_id AND cm.is_read = false),
+        (SELECT MAX(cm.message_id) FROM chat_message cm WHERE cm.chat_id = c.chatroom_id),
+        c.start_message_id));
+
+-- 채널별 메세지 조회 / 안 읽은 메세지 집계용 인덱스
+CREATE INDEX IF NOT EXISTS idx_message_channel_id ON message (channel_id, message_id);
+
+DROP TABLE chat_message;
+
+COMMIT;
@@ -0,0 +1,61 @@
+-- message 테이블을 created_date 기준 월 단위 RANGE 파티션 테이블로 변경하고, 보관 영역(message_archive)을 생성합니다.
+-- 파티션 이름은 message_pYYYYMM 이며, 이후의 파티션은 MessageArchiveService 가 미리 생성합니다.
+-- 보관 기간이 지난 파티션은 message_archive 로 옮긴 후 통째로 삭제되므로 message 테이블과 인덱스 크기가 일정하게 유지됩니다.
+-- 파티션 키가 PK 에 포함되어야 하므로 PK 는 (message_id, created_date) 가 됩니다. message_id 는 계속 시퀀스로 발급됩니다.
+-- 애플리케이션 배포 전에 한 번 실행합니다.
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS message_archive (
+    message_id   BIGINT PRIMARY KEY,
+    message_type INTEGER,
+    sender_id    BIGINT,
+    content      VARCHAR(255),
+    channel_id   BIGINT NOT NULL,
+    created_date TIMESTAMP
+);
+CREATE INDEX IF NOT EXISTS idx_message_archive_channel_id ON message_archive (channel_id, message_id);
+
+ALTER TABLE message RENAME TO message_legacy;
+ALTER INDEX IF EXISTS idx_message_channel_id RENAME TO idx_message_legacy_channel_id;
+UPDATE message_legacy SET created_date = COALESCE(last_modified_date, now()) WHERE created_date IS NULL;
+
+CREATE TABLE message (
+    message_id         BIGINT NOT NULL DEFAULT nextval('message_message_id_seq'),
+    message_type       INTEGER,
+    sender_id          BIGINT,
+    content            VARCHAR(255),
+    channel_id         BIGINT REFERENCES channel (channel_id),
+    created_date       TIMESTAMP NOT NULL,
+    last_modified_date TIMESTAMP,
+    PRIMARY KEY (message_id, created_date)
+) PARTITION BY RANGE (created_date);
+ALTER SEQUENCE message_message_id_seq OWNED BY message.message_id;
+
+-- 채널별 메세지 조회 / 안 읽은 메세지 집계용 인덱스 (각 파티션에 생성됩니다.)
+CREATE INDEX idx_message_channel_id ON message (channel_id, message_id);
+
+-- 파티션이 준비되지 않은 기간의 메세지를 받는 기본 파티션
+CREATE TABLE message_default PARTITION OF message DEFAULT;
+
+-- 기존 메세지가 있는 월과 이번 달, 다음 달 파티션을 생성합니다.
+DO $$
+DECLARE
+    month DATE;
+BEGIN
+    FOR month IN
+        SELECT DISTINCT date_trunc('month', created_date)::date FROM message_legacy
+        UNION SELECT date_trunc('month', now())::date
+        UNION SELECT (date_trunc('month', now()) + INTERVAL '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF message FOR VALUES FROM (%L) TO (%L)',
+                       'message_p' || to_char(month, 'YYYYMM'), month, (month + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO message (message_id, message_type, sender_id, content, channel_id, created_date, last_modified_date)
+SELECT message_id, message_type, sender_id, content, channel_id, created_date, last_modified_date FROM message_legacy;
+
+DROP TABLE message_legacy;
+
+COMMIT;
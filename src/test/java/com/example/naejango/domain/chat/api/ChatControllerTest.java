@@ -445,10 +445,10 @@ class ChatControllerTest extends RestDocsSupportTest {
                                     .tag("채팅")
                                     .summary("채팅방을 종료합니다.")
                                     .description("채팅방을 종료합니다.\n\n" +
-                                            "일대일 채팅의 경우, Chat은 삭제되지 않고 연관된 ChatMessage 가 삭제됩니다.\n\n" +
-                                            "그룹 채팅의 경우, Chat 과 연관된 ChatMessage 모두 삭제됩니다.\n\n" +
+                                            "일대일 채팅의 경우, Chat 이 삭제됩니다.\n\n" +
+                                            "그룹 채팅의 경우, Chat 이 삭제됩니다.\n\n" +
                                             "Channel 과 연관된 Chat 이 없으면 채널에 아무도 남지 않았다고 판단합니다.\n\n" +
-                                            "채널에 아무도 남지 않으면 Channel, Chat, ChatMessage, Message 가 전부 삭제됩니다.\n\n")
+                                            "채널에 아무도 남지 않으면 Channel, Chat, Message 가 전부 삭제됩니다.\n\n")
                                     .pathParameters(
                                             parameterWithName("channelId").description("종료하고자 하는 채팅방 id")
                                     ).responseFields(
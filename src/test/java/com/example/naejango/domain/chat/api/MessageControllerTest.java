@@ -24,6 +24,8 @@ import java.util.stream.Collectors;
 import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
+import static org.mockito.Mockito.never;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -129,4 +131,89 @@ class MessageControllerTest extends RestDocsSupportTest {
 
     }
 
-}
\ No newline at end of file
+    @Nested
+    @DisplayName("메세지 커서 조회")
+    class getMessagesBefore {
+        Channel channel = Channel.builder()
+                .id(5L)
+                .build();
+
+        Message message1 = Message.builder()
+                .id(3L)
+                .messageType(MessageType.OPEN)
+                .senderId(4L)
+                .content(MessageType.OPEN.getDefaultMessage())
+                .channel(channel)
+                .build();
+
+        Message message2 = Message.builder()
+                .id(6L)
+                .messageType(MessageType.CHAT)
+                .senderId(6L)
+                .content("안녕하세요")
+                .channel(channel)
+                .build();
+
+        List<Message> messageList = List.of(message2, message1);
+
+        @Test
+        @DisplayName("조회 성공")
+        @Tag("api")
+        void test1() throws Exception {
+            // given
+            BDDMockito.given(authenticationHandlerMock.getUserId(any()))
+                    .willReturn(1L);
+
+            BDDMockito.given(messageServiceMock.messagesBefore(1L, 2L, 7L, 20))
+                    .willReturn(messageList.stream().map(MessageDto::new).collect(Collectors.toList()));
+
+            // when
+            ResultActions resultActions = mockMvc.perform(RestDocumentationRequestBuilders
+                    .get("/api/message/{chatId}/scroll", 2L)
+                    .queryParam("before", "7")
+                    .queryParam("limit", "20")
+            );
+
+            // then
+            resultActions.andExpect(status().isOk());
+
+            // restDocs
+            resultActions.andDo(restDocs.document(resource(ResourceSnippetParameters.builder()
+                            .tag("채팅")
+                            .summary("채팅방 메세지 커서 조회")
+                            .description("before 로 전달한 메세지 id 이전의 메세지를 최신순으로 조회 합니다.\n\n" +
+                                    "before 를 생략하면 가장 최근 메세지부터 조회하며, 이 경우 해당 채팅방의 메세지는 모두 읽음 처리 됩니다.\n\n" +
+                                    "다음 페이지는 마지막으로 받은 메세지 id 를 before 로 전달하여 조회합니다. 한번에 최대 300개의 메세지를 로드합니다.")
+                            .requestParameters(
+                                    parameterWithName("before").description("이 메세지 id 이전의 메세지를 조회").optional(),
+                                    parameterWithName("limit").description("조회 결과물 수").defaultValue("25").optional()
+                            )
+                            .responseFields(
+                                    fieldWithPath("message").description("결과 메세지"),
+                                    fieldWithPath("result[].messageId").description("메세지 id"),
+                                    fieldWithPath("result[].channelId").description("채널 id"),
+                                    fieldWithPath("result[].senderId").description("보낸사람 id"),
+                                    fieldWithPath("result[].messageType").description("메세지 타입"),
+                                    fieldWithPath("result[].content").description("메세지 내용"),
+                                    fieldWithPath("result[].sentAt").description("보낸 시각")
+                            )
+                            .build()
+                    )));
+        }
+
+        @Test
+        @DisplayName("조회 수가 1 보다 작으면 검증 실패")
+        void test2() throws Exception {
+            // when
+            ResultActions resultActions = mockMvc.perform(RestDocumentationRequestBuilders
+                    .get("/api/message/{chatId}/scroll", 2L)
+                    .queryParam("limit", "0")
+            );
+
+            // then
+            resultActions.andExpect(status().isBadRequest());
+            BDDMockito.verify(messageServiceMock, never()).messagesBefore(any(), any(), any(), anyInt());
+        }
+    }
+
+}
@@ -2,7 +2,6 @@ package com.example.naejango.domain.chat.api;
 
 import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
 import com.example.naejango.domain.chat.repository.ChannelRepository;
-import com.example.naejango.domain.chat.repository.ChatMessageRepository;
 import com.example.naejango.domain.chat.repository.ChatRepository;
 import com.example.naejango.domain.chat.repository.MessageRepository;
 import com.example.naejango.domain.user.domain.User;
@@ -58,7 +57,6 @@ public class WebSocketTest {
     @Autowired ChatRepository chatRepository;
     @Autowired ObjectMapper objectMapper;
     @Autowired MessageRepository messageRepository;
-    @Autowired ChatMessageRepository chatMessageRepository;
     @Autowired ChannelRepository channelRepository;
     @Autowired JwtGenerator jwtGenerator;
     @Autowired DataSourceProperties dataSourceProperties;
@@ -0,0 +1,76 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.dto.ChannelLastMessageDto;
+import com.example.naejango.domain.chat.repository.ChannelLastMessageStore;
+import com.example.naejango.domain.chat.repository.ChannelRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelLastMessageFlusherTest {
+    @Mock ChannelLastMessageStore channelLastMessageStore;
+    @Mock ChannelRepository channelRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    ChannelLastMessageFlusher flusher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        flusher = new ChannelLastMessageFlusher(channelLastMessageStore, channelRepository, transactionTemplate, 1000L, 100);
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("변경된 채널의 마지막 메세지를 반영")
+    void test1() {
+        // given
+        LocalDateTime sentAt = LocalDateTime.now();
+        BDDMockito.given(channelLastMessageStore.popDirty(100)).willReturn(List.of(1L, 2L));
+        BDDMockito.given(channelLastMessageStore.findAll(List.of(1L, 2L))).willReturn(Map.of(
+                1L, new ChannelLastMessageDto(10L, "메세지1", sentAt),
+                2L, new ChannelLastMessageDto(20L, "메세지2", sentAt)));
+
+        // when
+        int flushed = flusher.flush();
+
+        // then
+        assertEquals(2, flushed);
+        verify(channelRepository).updateLastMessage(1L, "메세지1", sentAt);
+        verify(channelRepository).updateLastMessage(2L, "메세지2", sentAt);
+        verify(channelLastMessageStore, never()).markDirty(any());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 다시 반영 대상에 추가")
+    void test2() {
+        // given
+        BDDMockito.given(channelLastMessageStore.popDirty(100)).willReturn(List.of(1L));
+        BDDMockito.given(channelLastMessageStore.findAll(List.of(1L)))
+                .willReturn(Map.of(1L, new ChannelLastMessageDto(10L, "메세지1", LocalDateTime.now())));
+        BDDMockito.given(channelRepository.updateLastMessage(any(), any(), any())).willThrow(new IllegalStateException());
+
+        // when, then
+        assertThrows(IllegalStateException.class, () -> flusher.flush());
+        verify(channelLastMessageStore).markDirty(List.of(1L));
+    }
+}
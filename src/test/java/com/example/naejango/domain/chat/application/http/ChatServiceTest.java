@@ -4,7 +4,6 @@ import com.example.naejango.domain.account.domain.Account;
 import com.example.naejango.domain.account.repository.AccountRepository;
 import com.example.naejango.domain.chat.domain.*;
 import com.example.naejango.domain.chat.repository.ChannelRepository;
-import com.example.naejango.domain.chat.repository.ChatMessageRepository;
 import com.example.naejango.domain.chat.repository.ChatRepository;
 import com.example.naejango.domain.chat.repository.MessageRepository;
 import com.example.naejango.domain.follow.domain.Follow;
@@ -37,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,7 +62,6 @@ class ChatServiceTest {
     @Autowired ObjectMapper objectMapper;
     @Autowired ChatRepository chatRepository;
     @Autowired MessageRepository messageRepository;
-    @Autowired ChatMessageRepository chatMessageRepository;
     @Autowired ChatService chatService;
     @Autowired FollowRepository followRepository;
     @Autowired RefreshTokenRepository refreshTokenRepository;
@@ -74,7 +73,6 @@ class ChatServiceTest {
     Channel groupChannel, privateChannel, openGroupChannel;
     Chat chat1, chat2, chat3, chat4, chat5, chat6;
     Message message1, message2, message3, message4;
-    ChatMessage chatMessage1, chatMessage2, chatMessage3, chatMessage4, chatMessage5, chatMessage6, chatMessage7, chatMessage8;
     String refreshToken;
 
     @BeforeEach
@@ -122,18 +120,8 @@ class ChatServiceTest {
         message4 = Message.builder().channel(privateChannel).senderId(otherUser.getId()).messageType(MessageType.CHAT).content("메세지4").build();
         messageRepository.save(message1);messageRepository.save(message2);messageRepository.save(message3);messageRepository.save(message4);
 
-        chatMessage1 = ChatMessage.builder().message(message1).chat(chat1).isRead(true).build();
-        chatMessage2 = ChatMessage.builder().message(message1).chat(chat2).isRead(true).build();
-        chatMessage3 = ChatMessage.builder().message(message2).chat(chat1).isRead(true).build();
-        chatMessage4 = ChatMessage.builder().message(message2).chat(chat2).isRead(true).build();
-        chatMessage5 = ChatMessage.builder().message(message3).chat(chat3).isRead(true).build();
-        chatMessage6 = ChatMessage.builder().message(message3).chat(chat4).isRead(true).build();
-        chatMessage7 = ChatMessage.builder().message(message4).chat(chat3).isRead(true).build();
-        chatMessage8 = ChatMessage.builder().message(message4).chat(chat4).isRead(true).build();
-        chatMessageRepository.save(chatMessage1);chatMessageRepository.save(chatMessage2);
-        chatMessageRepository.save(chatMessage3);chatMessageRepository.save(chatMessage4);
-        chatMessageRepository.save(chatMessage5);chatMessageRepository.save(chatMessage6);
-        chatMessageRepository.save(chatMessage7);chatMessageRepository.save(chatMessage8);
+        chat1.readMessage(message2.getId());chat2.readMessage(message2.getId());
+        chat3.readMessage(message4.getId());chat4.readMessage(message4.getId());
 
         refreshToken = jwtGenerator.generateRefreshToken(new JwtPayload(user.getId(), user.getRole()));
         refreshTokenRepository.saveRefreshToken(user.getId(), refreshToken);
@@ -208,7 +196,7 @@ class ChatServiceTest {
         @DisplayName("삭제")
         void test1() {
             // given
-            assertEquals(2, chatMessageRepository.findByChatId(chat3.getId()).size());
+            assertEquals(2, messageRepository.findRecentMessages(chat3.getId(), Pageable.ofSize(10)).getTotalElements());
 
             // when
             chatService.deleteChatByChannelIdAndUserId(privateChannel.getId(), user.getId());
@@ -217,7 +205,7 @@ class ChatServiceTest {
             // then
             // 챗 메세지만 삭제됨
             assertTrue(chatRepository.findById(chat3.getId()).isPresent());
-            assertTrue(chatMessageRepository.findByChatId(chat3.getId()).isEmpty());
+            assertTrue(messageRepository.findRecentMessages(chat3.getId(), Pageable.ofSize(10)).isEmpty());
         }
     }
 
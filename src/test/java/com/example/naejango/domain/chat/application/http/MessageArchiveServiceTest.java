@@ -0,0 +1,105 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.repository.MessageArchiveRepository;
+import com.example.naejango.domain.chat.repository.MessagePartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageArchiveServiceTest {
+    @Mock MessageArchiveRepository messageArchiveRepository;
+    @Mock MessagePartitionRepository messagePartitionRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    MessageArchiveService messageArchiveService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        messageArchiveService = new MessageArchiveService(messageArchiveRepository, messagePartitionRepository,
+                transactionTemplate, false, 1000L, 6, 7, 100, 10);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(messageArchiveRepository.findClosedChannelIdsWithMessages(any(), anyInt())).thenReturn(List.of());
+    }
+
+    @Nested
+    @DisplayName("파티션 테이블")
+    class Partitioned {
+        @Test
+        @DisplayName("보관 기간이 지난 파티션만 옮기고 다음 달 파티션 생성")
+        void test1() {
+            // given
+            YearMonth current = YearMonth.now();
+            Map<YearMonth, String> partitions = new TreeMap<>();
+            for (int i = 8; i >= 0; i--) partitions.put(current.minusMonths(i), "partition");
+            BDDMockito.given(messagePartitionRepository.isPartitioned()).willReturn(true);
+            BDDMockito.given(messagePartitionRepository.findPartitions()).willReturn(partitions);
+            BDDMockito.given(messagePartitionRepository.archivePartition(any())).willReturn(10);
+
+            // when
+            long archived = messageArchiveService.archive();
+
+            // then
+            assertEquals(20, archived);
+            verify(messagePartitionRepository).archivePartition(current.minusMonths(8));
+            verify(messagePartitionRepository).archivePartition(current.minusMonths(7));
+            verify(messagePartitionRepository, never()).archivePartition(current.minusMonths(6));
+            verify(messagePartitionRepository).createPartition(current.plusMonths(1));
+            verify(messageArchiveRepository, never()).archiveMessagesCreatedBefore(any(), anyInt());
+        }
+    }
+
+    @Nested
+    @DisplayName("일반 테이블")
+    class NotPartitioned {
+        @Test
+        @DisplayName("batch 단위로 옮기고 마지막 batch 가 덜 차면 종료")
+        void test1() {
+            // given
+            BDDMockito.given(messagePartitionRepository.isPartitioned()).willReturn(false);
+            BDDMockito.given(messageArchiveRepository.archiveMessagesCreatedBefore(any(), anyInt())).willReturn(100, 100, 30);
+
+            // when
+            long archived = messageArchiveService.archive();
+
+            // then
+            assertEquals(230, archived);
+            verify(messageArchiveRepository, times(3)).archiveMessagesCreatedBefore(any(), anyInt());
+            verify(messagePartitionRepository, never()).createPartition(any());
+        }
+
+        @Test
+        @DisplayName("종료된 채널의 메세지 이동")
+        void test2() {
+            // given
+            BDDMockito.given(messagePartitionRepository.isPartitioned()).willReturn(false);
+            BDDMockito.given(messageArchiveRepository.findClosedChannelIdsWithMessages(any(), anyInt())).willReturn(List.of(1L, 2L));
+            BDDMockito.given(messageArchiveRepository.archiveChannelMessages(1L, 100)).willReturn(100, 5);
+            BDDMockito.given(messageArchiveRepository.archiveChannelMessages(2L, 100)).willReturn(7);
+
+            // when
+            long archived = messageArchiveService.archive();
+
+            // then
+            assertEquals(112, archived);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.domain.*;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.repository.ChannelRepository;
+import com.example.naejango.domain.chat.repository.ChatRepository;
+import com.example.naejango.domain.chat.repository.MessageRepository;
+import com.example.naejango.domain.user.domain.Role;
+import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 메세지 1건 발행에 걸리는 DB 시간을 채널 인원별로 측정합니다.
+ * 메세지 당 참여자 수 만큼 row 를 쓰지 않으므로 인원이 늘어도 시간이 크게 늘지 않아야 합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MessageFanOutBenchmarkTest {
+    @Autowired MessageService messageService;
+    @Autowired UserRepository userRepository;
+    @Autowired ChannelRepository channelRepository;
+    @Autowired ChatRepository chatRepository;
+    @Autowired MessageRepository messageRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private static final int[] CHANNEL_SIZES = {2, 10, 30, 100};
+    private static final int WARM_UP = 20;
+    private static final int MESSAGES = 200;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Channel> channels = new ArrayList<>();
+
+    @BeforeEach
+    void setup() {
+        int maxSize = CHANNEL_SIZES[CHANNEL_SIZES.length - 1];
+        for (int i = 0; i < maxSize; i++) {
+            User user = User.builder().role(Role.USER).userKey("bench_" + UUID.randomUUID()).password("").build();
+            users.add(userRepository.save(user));
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.execute(status -> {
+            channels.forEach(channel -> {
+                messageRepository.deleteMessagesByChannelId(channel.getId());
+                chatRepository.deleteAll(chatRepository.findByChannelId(channel.getId()));
+                channelRepository.deleteById(channel.getId());
+            });
+            return null;
+        });
+        userRepository.deleteAll(users);
+    }
+
+    @Test
+    @DisplayName("채널 인원별 메세지 1건당 발행 시간")
+    void publishPerMessage() {
+        for (int size : CHANNEL_SIZES) {
+            Channel channel = createChannel(size);
+
+            double elapsed = measure(WARM_UP, MESSAGES, () -> messageService.publishMessage(command(channel)));
+
+            log.info("participants={} publish={} ms/msg", size, String.format("%.3f", elapsed));
+        }
+    }
+
+    private Channel createChannel(int size) {
+        Channel channel = channelRepository.save(PrivateChannel.builder().channelType(ChannelType.PRIVATE).isClosed(false).build());
+        channels.add(channel);
+        for (int i = 0; i < size; i++) {
+            chatRepository.save(Chat.builder().owner(users.get(i)).channel(channel).title("benchmark").build());
+        }
+        return channel;
+    }
+
+    private MessagePublishCommandDto command(Channel channel) {
+        return MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+                .channelId(channel.getId()).senderId(users.get(0).getId()).content("benchmark").build();
+    }
+
+    private double measure(int warmUp, int iterations, Runnable task) {
+        for (int i = 0; i < warmUp; i++) task.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) task.run();
+        return (System.nanoTime() - start) / 1_000_000.0 / iterations;
+    }
+}
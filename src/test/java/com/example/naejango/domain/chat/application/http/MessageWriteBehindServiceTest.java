@@ -0,0 +1,139 @@
+package com.example.naejango.domain.chat.application.http;
+
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.global.common.exception.CustomException;
+import com.example.naejango.global.common.exception.ErrorCode;
+import com.example.naejango.global.common.exception.WebSocketException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MessageWriteBehindServiceTest {
+    @Mock MessageService messageService;
+
+    private MessageWriteBehindService writeBehindService(int queueCapacity, int batchSize) {
+        return new MessageWriteBehindService(messageService, true, queueCapacity, batchSize, 50L, 10L, 5000L);
+    }
+
+    private MessagePublishCommandDto command(long channelId, String content) {
+        return MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+                .channelId(channelId).senderId(1L).content(content).build();
+    }
+
+    @Nested
+    @DisplayName("메세지 일괄 저장")
+    class Flush {
+        @Test
+        @DisplayName("종료 시 큐에 남은 메세지를 모두 순서대로 저장")
+        @SuppressWarnings("unchecked")
+        void test1() throws InterruptedException {
+            // given
+            MessageWriteBehindService service = writeBehindService(1000, 20);
+            service.start();
+            List<MessagePublishCommandDto> commands = IntStream.range(0, 100)
+                    .mapToObj(i -> command(1L, "메세지" + i)).collect(Collectors.toList());
+
+            // when
+            commands.forEach(service::publishMessage);
+            service.shutdown();
+
+            // then
+            ArgumentCaptor<List<MessagePublishCommandDto>> captor = ArgumentCaptor.forClass(List.class);
+            verify(messageService, atLeastOnce()).publishMessages(captor.capture());
+            List<MessagePublishCommandDto> saved = captor.getAllValues().stream()
+                    .flatMap(List::stream).collect(Collectors.toList());
+            assertEquals(commands, saved);
+            assertTrue(captor.getAllValues().stream().allMatch(batch -> batch.size() <= 20));
+            assertEquals(0, service.pendingCount());
+        }
+
+        @Test
+        @DisplayName("일괄 저장 실패 시 한 건씩 저장")
+        void test2() throws InterruptedException {
+            // given
+            MessageWriteBehindService service = writeBehindService(1000, 20);
+            BDDMockito.willThrow(new CustomException(ErrorCode.CHANNEL_IS_CLOSED)).given(messageService).publishMessages(anyList());
+            service.start();
+
+            // when
+            service.publishMessage(command(1L, "메세지1"));
+            service.publishMessage(command(2L, "메세지2"));
+            service.shutdown();
+
+            // then
+            verify(messageService, times(2)).publishMessage(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("backpressure")
+    class Backpressure {
+        @Test
+        @DisplayName("큐가 가득 차면 직접 저장하지 않고 요청을 거절")
+        void test1() throws InterruptedException {
+            // given
+            CountDownLatch writing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            BDDMockito.willAnswer(invocation -> {
+                writing.countDown();
+                release.await();
+                return null;
+            }).given(messageService).publishMessages(anyList());
+            MessageWriteBehindService service = writeBehindService(1, 1);
+            service.start();
+            service.publishMessage(command(1L, "메세지1"));
+            writing.await();
+            service.publishMessage(command(1L, "메세지2"));
+
+            // when
+            WebSocketException exception = assertThrows(WebSocketException.class,
+                    () -> service.publishMessage(command(1L, "메세지3")));
+            release.countDown();
+            service.shutdown();
+
+            // then
+            assertEquals(ErrorCode.MESSAGE_QUEUE_FULL, exception.getErrorCode());
+            verify(messageService, times(2)).publishMessages(anyList());
+            verify(messageService, never()).publishMessage(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("비활성화")
+    class Disabled {
+        @Test
+        @DisplayName("writer 스레드 없이 즉시 저장")
+        void test1() {
+            // given
+            MessageWriteBehindService service = new MessageWriteBehindService(messageService, false, 10, 10, 50L, 10L, 5000L);
+            service.start();
+            MessagePublishCommandDto command = command(1L, "메세지");
+
+            // when
+            service.publishMessage(command);
+
+            // then
+            verify(messageService).publishMessage(command);
+            verify(messageService, never()).publishMessages(anyList());
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import com.example.naejango.global.common.exception.ErrorCode;
+import com.example.naejango.global.common.exception.WebSocketException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChatMessageCodecTest {
+    MessagePublishCommandDto chat = MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+            .senderId(300L).channelId(1_234_567_890_123L).content("안녕하세요 hello").build();
+    MessagePublishCommandDto open = MessagePublishCommandDto.builder().messageType(MessageType.OPEN)
+            .senderId(null).channelId(1L).content(null).build();
+
+    private void assertDecoded(MessagePublishCommandDto expected, WebSocketMessageSendDto actual) {
+        assertEquals(expected.getMessageType(), actual.getMessageType());
+        assertEquals(expected.getSenderId(), actual.getSenderId());
+        assertEquals(expected.getChannelId(), actual.getChannelId());
+        assertEquals(expected.getContent(), actual.getContent());
+        assertNotNull(actual.getSentAt());
+    }
+
+    @Nested
+    @DisplayName("바이너리")
+    class Binary {
+        BinaryChatMessageCodec codec = new BinaryChatMessageCodec();
+
+        @Test
+        @DisplayName("인코딩 후 디코딩 시 같은 메세지")
+        void test1() {
+            assertDecoded(chat, codec.decode(codec.encode(chat)));
+            assertDecoded(open, codec.decode(codec.encode(open)));
+        }
+
+        @Test
+        @DisplayName("JSON 보다 작은 크기")
+        void test2() {
+            JsonChatMessageCodec json = new JsonChatMessageCodec(new ObjectMapper());
+            assertTrue(codec.encode(chat).length < json.encode(chat).length);
+        }
+
+        @Test
+        @DisplayName("잘못된 형식은 예외 발생")
+        void test3() {
+            byte[] payload = codec.encode(chat);
+            byte[] truncated = java.util.Arrays.copyOf(payload, payload.length - 3);
+
+            assertThrows(WebSocketException.class, () -> codec.decode(truncated));
+            assertThrows(WebSocketException.class, () -> codec.decode(new byte[]{9, 1, 1}));
+        }
+
+        @Test
+        @DisplayName("형변환 시 음수가 되는 varint 는 FORGED_REQUEST")
+        void test4() {
+            // messageType = 2^31
+            byte[] forgedType = {1, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x08, 0, 1, 0};
+            // contentLength = -1 (10 byte varint)
+            byte[] forgedLength = {1, 1, 0, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+                    (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x01};
+
+            WebSocketException typeException = assertThrows(WebSocketException.class, () -> codec.decode(forgedType));
+            WebSocketException lengthException = assertThrows(WebSocketException.class, () -> codec.decode(forgedLength));
+            assertEquals(ErrorCode.FORGED_REQUEST, typeException.getErrorCode());
+            assertEquals(ErrorCode.FORGED_REQUEST, lengthException.getErrorCode());
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON")
+    class Json {
+        JsonChatMessageCodec codec = new JsonChatMessageCodec(new ObjectMapper());
+
+        @Test
+        @DisplayName("인코딩 후 디코딩 시 같은 메세지")
+        void test1() {
+            assertDecoded(chat, codec.decode(codec.encode(chat)));
+            assertDecoded(open, codec.decode(codec.encode(open)));
+        }
+
+        @Test
+        @DisplayName("잘못된 형식은 예외 발생")
+        void test2() {
+            assertThrows(WebSocketException.class, () -> codec.decode("{".getBytes()));
+        }
+    }
+}
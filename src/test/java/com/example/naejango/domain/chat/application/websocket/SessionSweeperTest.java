@@ -0,0 +1,130 @@
+package com.example.naejango.domain.chat.application.websocket;
+
+import com.example.naejango.domain.chat.repository.SubscribeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SessionSweeperTest {
+    @Mock SubscribeRepository subscribeRepository;
+    @Mock SubscribeService subscribeService;
+    MeterRegistry meterRegistry;
+    SessionSweeper sessionSweeper;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        sessionSweeper = new SessionSweeper(subscribeRepository, subscribeService, meterRegistry, 30_000, 30_000, 500);
+    }
+
+    private double swept(String reason) {
+        return meterRegistry.counter("chat.session.orphans.swept", "reason", reason).count();
+    }
+
+    private SessionDisconnectEvent disconnectEvent(String sessionId) {
+        return new SessionDisconnectEvent(this, MessageBuilder.withPayload(new byte[0]).build(), sessionId, CloseStatus.NORMAL);
+    }
+
+    @Nested
+    @DisplayName("주기적 정리")
+    class Sweep {
+        @Test
+        @DisplayName("연결되어 있지 않은 세션만 정리")
+        void test1() {
+            // given
+            sessionSweeper.register("live");
+            given(subscribeRepository.adoptExpiredSessions(anyInt())).willReturn(0);
+            given(subscribeRepository.findNodeSessionIds()).willReturn(Set.of("live", "orphan"));
+            given(subscribeService.cleanup("orphan")).willReturn(true);
+
+            // when
+            int result = sessionSweeper.sweep();
+
+            // then
+            assertEquals(1, result);
+            verify(subscribeService, never()).cleanup("live");
+            assertEquals(1, swept("sweep"));
+        }
+
+        @Test
+        @DisplayName("lease 가 만료된 서버의 세션을 가져와 정리")
+        void test2() {
+            // given
+            given(subscribeRepository.adoptExpiredSessions(500)).willReturn(2);
+            given(subscribeRepository.findNodeSessionIds()).willReturn(Set.of("adopted1", "adopted2"));
+            given(subscribeService.cleanup(anyString())).willReturn(true);
+
+            // when
+            int result = sessionSweeper.sweep();
+
+            // then
+            assertEquals(2, result);
+            assertEquals(2, meterRegistry.counter("chat.session.orphans.adopted").count());
+            assertEquals(2, swept("sweep"));
+        }
+
+        @Test
+        @DisplayName("이미 정리된 세션은 집계하지 않음")
+        void test3() {
+            // given
+            given(subscribeRepository.findNodeSessionIds()).willReturn(Set.of("closed"));
+            given(subscribeService.cleanup("closed")).willReturn(false);
+
+            // when
+            int result = sessionSweeper.sweep();
+
+            // then
+            assertEquals(0, result);
+            assertEquals(0, swept("sweep"));
+        }
+    }
+
+    @Nested
+    @DisplayName("연결 종료 이벤트")
+    class OnDisconnect {
+        @Test
+        @DisplayName("DISCONNECT 프레임 없이 끊긴 세션 정리")
+        void test1() {
+            // given
+            sessionSweeper.register("session");
+            given(subscribeService.cleanup("session")).willReturn(true);
+
+            // when
+            sessionSweeper.onDisconnect(disconnectEvent("session"));
+
+            // then
+            assertEquals(1, swept("disconnect-event"));
+            assertEquals(0, meterRegistry.get("chat.session.live").gauge().value());
+        }
+
+        @Test
+        @DisplayName("정리 중 예외가 발생해도 이벤트 처리는 실패하지 않음")
+        void test2() {
+            // given
+            given(subscribeService.cleanup("session")).willThrow(new IllegalStateException());
+
+            // when
+            sessionSweeper.onDisconnect(disconnectEvent("session"));
+
+            // then
+            assertEquals(0, swept("disconnect-event"));
+        }
+    }
+}
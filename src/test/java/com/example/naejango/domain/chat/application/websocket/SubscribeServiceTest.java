@@ -89,7 +89,7 @@ class SubscribeServiceTest {
             assertTrue(userIds.contains(user.getId()));
 
             // 구독Id 에 채널Id 등록 확인
-            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSubscriptionId()).or(Assertions::fail);
+            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSessionId(), scribeCommandDto1.getSubscriptionId()).or(Assertions::fail);
             assertEquals(channelId.get(), scribeCommandDto1.getChannelId());
 
             // 세션에 구독 아이디 등록 확인
@@ -118,7 +118,7 @@ class SubscribeServiceTest {
             assertFalse(userIds.contains(user.getId()));
 
             // 구독 ID 삭제 확인
-            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSubscriptionId());
+            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSessionId(), scribeCommandDto1.getSubscriptionId());
             assertTrue(channelId.isEmpty());
 
             // 세션에 구독 ID 삭제 확인
@@ -142,7 +142,7 @@ class SubscribeServiceTest {
             subscribeService.disconnect(scribeCommandDto1.getSessionId());
 
             // then
-            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSubscriptionId());
+            Optional<Long> channelId = subscribeRepository.findChannelIdBySubscriptionId(scribeCommandDto1.getSessionId(), scribeCommandDto1.getSubscriptionId());
             assertTrue(channelId.isEmpty());
 
             Optional<Long> userId = subscribeRepository.findUserIdBySessionId(scribeCommandDto1.getSessionId());
@@ -157,7 +157,37 @@ class SubscribeServiceTest {
             Set<String> subscriptionIds = subscribeRepository.findSubscriptionIdBySessionId(scribeCommandDto1.getSessionId());
             assertTrue(subscriptionIds.isEmpty());
         }
+    }
+
+    @Nested
+    @DisplayName("여러 세션에서 같은 채널 구독")
+    class MultipleSessions {
+        @Test
+        @DisplayName("마지막 세션이 연결 종료될 때 채널에서 삭제")
+        void test1() {
+            // given
+            SubScribeCommandDto otherSessionCommand = SubScribeCommandDto.builder().userId(user.getId()).sessionId("other")
+                    .subscriptionId(scribeCommandDto1.getSubscriptionId()).channelId(groupChannel1.getId())
+                    .destination("/sub/channel/" + groupChannel1.getId()).build();
+            subscribeRepository.saveUserIdBySessionId(user.getId(), scribeCommandDto1.getSessionId());
+            subscribeRepository.saveUserIdBySessionId(user.getId(), otherSessionCommand.getSessionId());
+            subscribeService.subscribe(scribeCommandDto1);
+            subscribeService.subscribe(otherSessionCommand);
+
+            // when
+            subscribeService.disconnect(scribeCommandDto1.getSessionId());
+
+            // then
+            assertTrue(subscribeService.isSubscriber(user.getId(), groupChannel1.getId()));
+            assertEquals(groupChannel1.getId(), subscribeRepository
+                    .findChannelIdBySubscriptionId(otherSessionCommand.getSessionId(), otherSessionCommand.getSubscriptionId()).orElseThrow());
 
+            // when
+            subscribeService.disconnect(otherSessionCommand.getSessionId());
+
+            // then
+            assertFalse(subscribeService.isSubscriber(user.getId(), groupChannel1.getId()));
+        }
     }
 
-}
\ No newline at end of file
+}
@@ -94,7 +94,7 @@ public class SubscribeServiceTransactionTest {
             // then : 에러가 발생하기 이전의 로직 롤백 확인
             // 구독 정보 저장 롤백 확인
             Optional<Long> channelId = subscribeRepository
-                    .findChannelIdBySubscriptionId(errorCommandForSubscribe.getSubscriptionId());
+                    .findChannelIdBySubscriptionId(errorCommandForSubscribe.getSessionId(), errorCommandForSubscribe.getSubscriptionId());
             assertTrue(channelId.isEmpty());
             // 채널 멤버 정보 롤백 확인
             Set<Long> subscribers = subscribeRepository.findSubscribersByChannelId(errorCommandForSubscribe.getChannelId());
@@ -116,7 +116,7 @@ public class SubscribeServiceTransactionTest {
             // then : 에러가 발생하기 이전의 로직 롤백 확인
             // 구독 아이디 삭제 롤백ㅌㅌ
             Optional<Long> channelId = subscribeRepository
-                    .findChannelIdBySubscriptionId(errorCommandForSubscribe.getSubscriptionId());
+                    .findChannelIdBySubscriptionId(errorCommandForUnsubscribe.getSessionId(), errorCommandForUnsubscribe.getSubscriptionId());
             assertTrue(channelId.isPresent());
         }
 
@@ -0,0 +1,182 @@
+package com.example.naejango.domain.chat.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelLaneTaskExecutorTest {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ChannelLaneTaskExecutor executor;
+
+    @AfterEach
+    void shutdown() {
+        if (executor != null) executor.shutdown();
+    }
+
+    private ChannelLaneTaskExecutor executor(int lanes, int queueCapacity, long offerTimeoutMillis) {
+        ChannelLaneTaskExecutor executor = new ChannelLaneTaskExecutor(lanes, queueCapacity, offerTimeoutMillis, meterRegistry);
+        executor.initialize();
+        return executor;
+    }
+
+    private Message<byte[]> message(String destination, String sessionId) {
+        return message(SimpMessageType.MESSAGE, destination, sessionId);
+    }
+
+    private Message<byte[]> message(SimpMessageType type, String destination, String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setDestination(destination);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private MessageHandlingRunnable task(Message<?> message, Runnable action) {
+        return new MessageHandlingRunnable() {
+            @Override
+            public Message<?> getMessage() {
+                return message;
+            }
+
+            @Override
+            public MessageHandler getMessageHandler() {
+                return m -> action.run();
+            }
+
+            @Override
+            public void run() {
+                action.run();
+            }
+        };
+    }
+
+    @Nested
+    @DisplayName("lane 배정")
+    class Lane {
+        @Test
+        @DisplayName("destination 에서 channelId 추출")
+        void test1() {
+            assertEquals(12, ChannelLaneTaskExecutor.channelIdOf("/pub/channel/12"));
+            assertEquals(7, ChannelLaneTaskExecutor.channelIdOf("/sub/channel/7"));
+            assertEquals(-1, ChannelLaneTaskExecutor.channelIdOf("/sub/channel/abc"));
+            assertEquals(-1, ChannelLaneTaskExecutor.channelIdOf("/sub/info-user"));
+            assertEquals(-1, ChannelLaneTaskExecutor.channelIdOf(null));
+        }
+
+        @Test
+        @DisplayName("같은 채널은 같은 lane, 채널이 없으면 세션으로 배정")
+        void test2() {
+            // given
+            executor = executor(4, 10, 100);
+
+            // then
+            assertEquals(executor.laneOf(message("/pub/channel/5", "a")), executor.laneOf(message("/sub/channel/5", "b")));
+            assertNotEquals(executor.laneOf(message("/pub/channel/5", "a")), executor.laneOf(message("/pub/channel/6", "a")));
+            assertEquals(executor.laneOf(message(null, "session")), executor.laneOf(message(null, "session")));
+        }
+
+        @Test
+        @DisplayName("세션의 구독 관련 메세지는 destination 과 관계없이 같은 lane")
+        void test3() {
+            // given
+            executor = executor(16, 10, 100);
+            int sessionLane = executor.laneOf(message(SimpMessageType.CONNECT, null, "session"));
+
+            // then
+            for (int channelId = 0; channelId < 32; channelId++) {
+                assertEquals(sessionLane, executor.laneOf(message(SimpMessageType.SUBSCRIBE, "/sub/channel/" + channelId, "session")));
+            }
+            assertEquals(sessionLane, executor.laneOf(message(SimpMessageType.UNSUBSCRIBE, null, "session")));
+            assertEquals(sessionLane, executor.laneOf(message(SimpMessageType.DISCONNECT, null, "session")));
+        }
+    }
+
+    @Nested
+    @DisplayName("메세지 처리")
+    class Execute {
+        @Test
+        @DisplayName("같은 채널의 메세지는 순서대로 처리")
+        void test1() throws InterruptedException {
+            // given
+            executor = executor(4, 1000, 100);
+            List<Integer> processed = new CopyOnWriteArrayList<>();
+            CountDownLatch done = new CountDownLatch(500);
+
+            // when
+            for (int i = 0; i < 500; i++) {
+                int sequence = i;
+                executor.execute(task(message("/pub/channel/1", "session"), () -> {
+                    processed.add(sequence);
+                    done.countDown();
+                }));
+            }
+
+            // then
+            assertTrue(done.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 500; i++) assertEquals(i, processed.get(i));
+        }
+
+        @Test
+        @DisplayName("느린 채널이 다른 채널의 처리를 막지 않음")
+        void test2() throws InterruptedException {
+            // given
+            executor = executor(4, 10, 100);
+            CountDownLatch blocked = new CountDownLatch(1);
+            CountDownLatch other = new CountDownLatch(1);
+            executor.execute(task(message("/pub/channel/1", "a"), () -> {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+
+            // when
+            executor.execute(task(message("/pub/channel/2", "b"), other::countDown));
+
+            // then
+            assertTrue(other.await(1, TimeUnit.SECONDS));
+            blocked.countDown();
+        }
+
+        @Test
+        @DisplayName("대기열이 가득 차면 거부")
+        void test3() {
+            // given
+            executor = executor(1, 1, 50);
+            CountDownLatch blocked = new CountDownLatch(1);
+            Runnable block = () -> {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+            executor.execute(task(message("/pub/channel/1", "a"), block));
+            executor.execute(task(message("/pub/channel/1", "a"), block));
+
+            // when, then
+            assertThrows(RejectedExecutionException.class,
+                    () -> executor.execute(task(message("/pub/channel/1", "a"), block)));
+            assertEquals(1, meterRegistry.counter("chat.inbound.lane.rejected").count());
+            assertEquals(1, meterRegistry.get("chat.inbound.lane.queue-depth").tag("lane", "0").gauge().value());
+            blocked.countDown();
+        }
+    }
+}
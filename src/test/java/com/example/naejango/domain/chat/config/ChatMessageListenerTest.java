@@ -0,0 +1,142 @@
+package com.example.naejango.domain.chat.config;
+
+import com.example.naejango.domain.chat.application.websocket.BinaryChatMessageCodec;
+import com.example.naejango.domain.chat.application.websocket.ChatBusFrame;
+import com.example.naejango.domain.chat.domain.MessageType;
+import com.example.naejango.domain.chat.dto.MessagePublishCommandDto;
+import com.example.naejango.domain.chat.dto.WebSocketMessageSendDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageListenerTest {
+    @Mock SimpMessagingTemplate messageSender;
+    BinaryChatMessageCodec codec = new BinaryChatMessageCodec();
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ChatNodeId chatNodeId = new ChatNodeId("node-a");
+    ChatMessageListener listener;
+
+    @AfterEach
+    void shutdown() {
+        if (listener != null) listener.shutdown();
+    }
+
+    private byte[] payload(long channelId, String content) {
+        MessagePublishCommandDto commandDto = MessagePublishCommandDto.builder().messageType(MessageType.CHAT)
+                .senderId(1L).channelId(channelId).content(content).build();
+        return codec.encode(commandDto);
+    }
+
+    private DefaultMessage message(long channelId, String content) {
+        return new DefaultMessage(("chat:" + channelId).getBytes(StandardCharsets.UTF_8), payload(channelId, content));
+    }
+
+    private DefaultMessage message(ChatNodeId origin, long channelId, String content) {
+        byte[] frame = ChatBusFrame.wrap(origin.getTag(), System.currentTimeMillis(), payload(channelId, content));
+        return new DefaultMessage(("chat:" + channelId).getBytes(StandardCharsets.UTF_8), frame);
+    }
+
+    @Test
+    @DisplayName("같은 채널의 메세지는 수신한 순서대로 발송")
+    void test1() throws InterruptedException {
+        // given
+        listener = new ChatMessageListener(messageSender, codec, chatNodeId, meterRegistry, 4, 1000);
+        List<String> sent = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(300);
+        doAnswer(invocation -> {
+            sent.add(((WebSocketMessageSendDto) invocation.getArgument(1)).getContent());
+            done.countDown();
+            return null;
+        }).when(messageSender).convertAndSend(anyString(), any(Object.class));
+
+        // when
+        for (int i = 0; i < 300; i++) listener.onMessage(message(i % 3, String.valueOf(i)), null);
+
+        // then
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        for (long channelId = 0; channelId < 3; channelId++) {
+            int previous = -1;
+            for (String content : sent) {
+                int sequence = Integer.parseInt(content);
+                if (sequence % 3 != channelId) continue;
+                assertTrue(sequence > previous);
+                previous = sequence;
+            }
+        }
+        // 발송 후 기록되므로 잠시 기다립니다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("chat.listener.dispatch.latency").timer().count() < 300
+                && System.nanoTime() < deadline) Thread.sleep(5);
+        assertEquals(300, meterRegistry.get("chat.listener.dispatch.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("발송 대기열이 가득 차면 메세지를 버림")
+    void test2() throws InterruptedException {
+        // given
+        listener = new ChatMessageListener(messageSender, codec, chatNodeId, meterRegistry, 1, 1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            blocked.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(messageSender).convertAndSend(anyString(), any(Object.class));
+        listener.onMessage(message(1, "first"), null);
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        listener.onMessage(message(1, "queued"), null);
+
+        // when
+        listener.onMessage(message(1, "dropped"), null);
+
+        // then
+        assertEquals(1, meterRegistry.counter("chat.listener.lane.rejected").count());
+        blocked.countDown();
+    }
+
+    @Test
+    @DisplayName("이 서버가 발행한 메세지는 다시 보내지 않음")
+    void test3() throws InterruptedException {
+        // given
+        listener = new ChatMessageListener(messageSender, codec, chatNodeId, meterRegistry, 1, 10);
+        CountDownLatch done = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            done.countDown();
+            return null;
+        }).when(messageSender).convertAndSend(anyString(), any(Object.class));
+
+        // when
+        listener.onMessage(message(chatNodeId, 1, "echo"), null);
+        listener.onMessage(message(new ChatNodeId("node-b"), 1, "remote"), null);
+
+        // then
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        verify(messageSender, times(1)).convertAndSend(eq("/sub/channel/1"), any(Object.class));
+        assertEquals(1, meterRegistry.counter("chat.listener.echo.skipped").count());
+        // 발송 후 기록되므로 잠시 기다립니다.
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (meterRegistry.get("chat.delivery.latency").tag("path", "remote").timer().count() == 0
+                && System.nanoTime() < deadline) Thread.sleep(5);
+        assertEquals(1, meterRegistry.get("chat.delivery.latency").tag("path", "remote").timer().count());
+    }
+}
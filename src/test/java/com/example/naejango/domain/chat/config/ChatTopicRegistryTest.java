@@ -0,0 +1,152 @@
+package com.example.naejango.domain.chat.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatTopicRegistryTest {
+    @Mock RedisMessageListenerContainer listenerContainer;
+    @Mock ChatMessageListener chatMessageListener;
+
+    @Nested
+    @DisplayName("채널 토픽")
+    class ChannelTopics {
+        @Test
+        @DisplayName("첫 구독 시 토픽 구독, 마지막 구독 해제 시 토픽 구독 해제")
+        void test1() {
+            // given
+            ChatTopicRegistry registry = new ChatTopicRegistry(listenerContainer, chatMessageListener, true, 0);
+
+            // when
+            registry.subscribe("session1", "sub1", 1L);
+            registry.subscribe("session2", "sub1", 1L);
+            registry.unsubscribe("session1", "sub1");
+
+            // then
+            verify(listenerContainer, times(1)).addMessageListener(any(), eq(new ChannelTopic("chat:1")));
+            verify(listenerContainer, never()).removeMessageListener(any(), any(ChannelTopic.class));
+
+            // when
+            registry.unsubscribe("session2", "sub1");
+
+            // then
+            verify(listenerContainer, times(1)).removeMessageListener(any(), eq(new ChannelTopic("chat:1")));
+            assertEquals(0, registry.subscribedTopicCount());
+        }
+
+        @Test
+        @DisplayName("연결 종료 시 세션의 모든 토픽 구독 해제")
+        void test2() {
+            // given
+            ChatTopicRegistry registry = new ChatTopicRegistry(listenerContainer, chatMessageListener, true, 0);
+            registry.subscribe("session1", "sub1", 1L);
+            registry.subscribe("session1", "sub2", 2L);
+
+            // when
+            registry.disconnect("session1");
+
+            // then
+            verify(listenerContainer).removeMessageListener(any(), eq(new ChannelTopic("chat:1")));
+            verify(listenerContainer).removeMessageListener(any(), eq(new ChannelTopic("chat:2")));
+            assertEquals(0, registry.subscribedTopicCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 구독")
+    class Concurrency {
+        @Test
+        @DisplayName("구독과 해제가 동시에 들어와도 Redis 구독 상태가 구독 수와 일치")
+        void test1() throws InterruptedException {
+            // given
+            ChatTopicRegistry registry = new ChatTopicRegistry(listenerContainer, chatMessageListener, true, 0);
+            AtomicInteger redisSubscriptions = new AtomicInteger();
+            doAnswer(invocation -> {
+                Thread.sleep(1);
+                redisSubscriptions.incrementAndGet();
+                return null;
+            }).when(listenerContainer).addMessageListener(any(), any(ChannelTopic.class));
+            doAnswer(invocation -> {
+                Thread.sleep(1);
+                redisSubscriptions.decrementAndGet();
+                return null;
+            }).when(listenerContainer).removeMessageListener(any(), any(ChannelTopic.class));
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+
+            // when
+            for (int i = 0; i < 8; i++) {
+                String sessionId = "session" + i;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    for (int round = 0; round < 50; round++) {
+                        registry.subscribe(sessionId, "sub1", 1L);
+                        registry.unsubscribe(sessionId, "sub1");
+                    }
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+            // then
+            assertEquals(0, redisSubscriptions.get());
+            assertEquals(0, registry.subscribedTopicCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("버킷 토픽")
+    class BucketTopics {
+        @Test
+        @DisplayName("같은 버킷의 채널은 하나의 토픽을 공유")
+        void test1() {
+            // given
+            ChatTopicRegistry registry = new ChatTopicRegistry(listenerContainer, chatMessageListener, true, 16);
+
+            // when
+            registry.subscribe("session1", "sub1", 1L);
+            registry.subscribe("session1", "sub2", 17L);
+
+            // then
+            assertEquals("chat:bucket:1", registry.topicOf(17L));
+            verify(listenerContainer, times(1)).addMessageListener(any(), eq(new ChannelTopic("chat:bucket:1")));
+            assertEquals(1, registry.subscribedTopicCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 웹소켓 모드가 아니면 토픽을 구독하지 않음")
+    void disabled() {
+        // given
+        ChatTopicRegistry registry = new ChatTopicRegistry(listenerContainer, chatMessageListener, false, 0);
+
+        // when
+        registry.subscribe("session1", "sub1", 1L);
+
+        // then
+        verifyNoInteractions(listenerContainer);
+    }
+}
@@ -0,0 +1,181 @@
+package com.example.naejango.domain.chat.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MultiValueMap;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DestinationSubscriptionRegistryTest {
+    DestinationSubscriptionRegistry registry = new DestinationSubscriptionRegistry();
+
+    private Message<byte[]> message(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId(subscriptionId);
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private void subscribe(String sessionId, String subscriptionId, String destination) {
+        registry.registerSubscription(message(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, destination));
+    }
+
+    private void unsubscribe(String sessionId, String subscriptionId) {
+        registry.unregisterSubscription(message(SimpMessageType.UNSUBSCRIBE, sessionId, subscriptionId, null));
+    }
+
+    private MultiValueMap<String, String> find(String destination) {
+        return registry.findSubscriptions(message(SimpMessageType.MESSAGE, null, null, destination));
+    }
+
+    @Nested
+    @DisplayName("구독")
+    class Subscribe {
+        @Test
+        @DisplayName("destination 이 같은 구독만 조회")
+        void test1() {
+            // given
+            subscribe("session1", "sub1", "/sub/channel/1");
+            subscribe("session1", "sub2", "/sub/channel/1");
+            subscribe("session2", "sub1", "/sub/channel/1");
+            subscribe("session3", "sub1", "/sub/channel/2");
+
+            // when
+            MultiValueMap<String, String> result = find("/sub/channel/1");
+
+            // then
+            assertEquals(2, result.size());
+            assertEquals(List.of("sub1", "sub2"), result.get("session1"));
+            assertEquals(List.of("sub1"), result.get("session2"));
+            assertTrue(find("/sub/channel/3").isEmpty());
+        }
+
+        @Test
+        @DisplayName("같은 구독 id 로 다시 구독하면 이전 destination 에서 삭제")
+        void test2() {
+            // given
+            subscribe("session1", "sub1", "/sub/channel/1");
+
+            // when
+            subscribe("session1", "sub1", "/sub/channel/2");
+
+            // then
+            assertTrue(find("/sub/channel/1").isEmpty());
+            assertEquals(List.of("sub1"), find("/sub/channel/2").get("session1"));
+            assertEquals(1, registry.destinationCount());
+        }
+
+        @Test
+        @DisplayName("패턴으로 구독한 경우 패턴과 비교")
+        void test3() {
+            // given
+            subscribe("session1", "sub1", "/sub/channel/*");
+            subscribe("session2", "sub1", "/sub/channel/1");
+
+            // when
+            MultiValueMap<String, String> result = find("/sub/channel/1");
+
+            // then
+            assertEquals(List.of("sub1"), result.get("session1"));
+            assertEquals(List.of("sub1"), result.get("session2"));
+            assertEquals(List.of("sub1"), find("/sub/channel/2").get("session1"));
+        }
+    }
+
+    @Nested
+    @DisplayName("구독 취소")
+    class Unsubscribe {
+        @Test
+        @DisplayName("구독 id 별 취소")
+        void test1() {
+            // given
+            subscribe("session1", "sub1", "/sub/channel/1");
+            subscribe("session1", "sub2", "/sub/channel/1");
+            MultiValueMap<String, String> before = find("/sub/channel/1");
+
+            // when
+            unsubscribe("session1", "sub1");
+
+            // then
+            assertEquals(List.of("sub2"), find("/sub/channel/1").get("session1"));
+            // 이전에 조회한 목록은 변경되지 않습니다.
+            assertEquals(List.of("sub1", "sub2"), before.get("session1"));
+        }
+
+        @Test
+        @DisplayName("연결 종료 시 세션의 모든 구독 삭제")
+        void test2() {
+            // given
+            subscribe("session1", "sub1", "/sub/channel/1");
+            subscribe("session1", "sub2", "/sub/channel/2");
+            subscribe("session2", "sub1", "/sub/channel/2");
+
+            // when
+            registry.unregisterAllSubscriptions("session1");
+
+            // then
+            assertTrue(find("/sub/channel/1").isEmpty());
+            assertEquals(1, find("/sub/channel/2").size());
+            assertEquals(1, registry.destinationCount());
+        }
+
+        @Test
+        @DisplayName("구독과 연결 종료가 동시에 처리되어도 종료된 세션의 구독이 남지 않음")
+        void test3() throws InterruptedException {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+
+            // when
+            for (int round = 0; round < 50; round++) {
+                CountDownLatch start = new CountDownLatch(1);
+                CountDownLatch done = new CountDownLatch(8);
+                for (int i = 0; i < 8; i++) {
+                    String sessionId = "session" + (i % 2);
+                    String destination = "/sub/channel/" + i;
+                    boolean disconnect = i >= 4;
+                    executor.execute(() -> {
+                        try {
+                            start.await();
+                            if (disconnect) registry.unregisterAllSubscriptions(sessionId);
+                            else subscribe(sessionId, "sub1", destination);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                start.countDown();
+                assertTrue(done.await(1, TimeUnit.SECONDS));
+                registry.unregisterAllSubscriptions("session0");
+                registry.unregisterAllSubscriptions("session1");
+
+                // then
+                assertEquals(0, registry.destinationCount());
+            }
+            executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("구독이 없는 destination 의 조회 결과는 변경할 수 없음")
+        void test4() {
+            // when
+            MultiValueMap<String, String> result = find("/sub/channel/1");
+
+            // then
+            assertThrows(UnsupportedOperationException.class, () -> result.add("session1", "sub1"));
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.naejango.domain.chat.config;
+
+import com.example.naejango.domain.chat.application.websocket.SessionSweeper;
+import com.example.naejango.domain.chat.application.websocket.SubscribeService;
+import com.example.naejango.domain.chat.repository.SubscribeRepository;
+import com.example.naejango.global.auth.jwt.JwtAuthenticator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WebSocketChannelInterceptorTest {
+    @Mock SubscribeService subscribeService;
+    @Mock JwtAuthenticator jwtAuthenticator;
+    @Mock SubscribeRepository subscribeRepository;
+    @Mock SessionSweeper sessionSweeper;
+    @InjectMocks WebSocketChannelInterceptor interceptor;
+
+    private Message<byte[]> message(StompCommand command, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session");
+        accessor.setSessionAttributes(sessionAttributes);
+        if (command == StompCommand.SEND) accessor.setDestination("/pub/channel/1");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    @Test
+    @DisplayName("CONNECT 시 인증 객체를 세션 속성에 저장하고 이후 메세지는 세션 속성으로 인증")
+    void test1() {
+        // given
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        given(subscribeRepository.findUserIdBySessionId("session")).willReturn(Optional.empty());
+        given(jwtAuthenticator.authenticateWebSocketRequest(any()))
+                .willReturn(new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+        interceptor.preSend(message(StompCommand.CONNECT, sessionAttributes), null);
+
+        // when
+        Message<byte[]> send = message(StompCommand.SEND, sessionAttributes);
+        Message<?> result = interceptor.preSend(send, null);
+
+        // then
+        Principal principal = StompHeaderAccessor.getUser(result.getHeaders());
+        assertNotNull(principal);
+        assertSame(sessionAttributes.get(WebSocketChannelInterceptor.PRINCIPAL_ATTRIBUTE), principal);
+        assertEquals(1L, ((UsernamePasswordAuthenticationToken) principal).getPrincipal());
+        assertSame(send, result);
+        // CONNECT 시 중복 확인 한 번만 조회합니다.
+        verify(subscribeRepository, times(1)).findUserIdBySessionId("session");
+    }
+
+    @Test
+    @DisplayName("세션 속성이 없으면 sessionId 로 유저를 조회")
+    void test2() {
+        // given
+        given(subscribeRepository.findUserIdBySessionId("session")).willReturn(Optional.of(1L));
+
+        // when
+        Message<?> result = interceptor.preSend(message(StompCommand.SEND, null), null);
+
+        // then
+        UsernamePasswordAuthenticationToken principal =
+                (UsernamePasswordAuthenticationToken) StompHeaderAccessor.getUser(result.getHeaders());
+        assertNotNull(principal);
+        assertEquals(1L, principal.getPrincipal());
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.dto.ChannelMembershipDto;
+import com.example.naejango.domain.chat.dto.ChatOwnerDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelMembershipCacheTest {
+    @Mock ChannelRepository channelRepository;
+    @Mock ChatRepository chatRepository;
+    @Mock StringRedisTemplate stringRedisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+    ChannelMembershipCache channelMembershipCache;
+
+    @BeforeEach
+    void setup() {
+        channelMembershipCache = new ChannelMembershipCache(channelRepository, chatRepository, stringRedisTemplate, listenerContainer, 100);
+        lenient().when(channelRepository.findIsClosedById(1L)).thenReturn(Optional.of(false));
+        lenient().when(chatRepository.findChatOwnersByChannelId(1L))
+                .thenReturn(List.of(new ChatOwnerDto(11L, 3L), new ChatOwnerDto(12L, 1L)));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Find {
+        @Test
+        @DisplayName("참여자 정보 조회 및 캐싱")
+        void test1() {
+            // when
+            ChannelMembershipDto first = channelMembershipCache.find(1L).orElseThrow();
+            ChannelMembershipDto second = channelMembershipCache.find(1L).orElseThrow();
+
+            // then
+            assertSame(first, second);
+            assertFalse(first.isClosed());
+            assertTrue(first.isMember(1L));
+            assertTrue(first.isMember(3L));
+            assertFalse(first.isMember(2L));
+            assertEquals(12L, first.findChatId(1L));
+            assertNull(first.findChatId(2L));
+            verify(chatRepository, times(1)).findChatOwnersByChannelId(1L);
+        }
+
+        @Test
+        @DisplayName("없는 채널은 캐싱하지 않음")
+        void test2() {
+            // given
+            BDDMockito.given(channelRepository.findIsClosedById(2L)).willReturn(Optional.empty());
+
+            // when
+            Optional<ChannelMembershipDto> result = channelMembershipCache.find(2L);
+            channelMembershipCache.find(2L);
+
+            // then
+            assertTrue(result.isEmpty());
+            verify(channelRepository, times(2)).findIsClosedById(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate")
+    class Invalidate {
+        @Test
+        @DisplayName("invalidate 후 다시 조회하고 다른 서버로 전파")
+        void test1() {
+            // given
+            channelMembershipCache.find(1L);
+
+            // when
+            channelMembershipCache.invalidate(1L);
+            channelMembershipCache.find(1L);
+
+            // then
+            verify(chatRepository, times(2)).findChatOwnersByChannelId(1L);
+            verify(stringRedisTemplate).convertAndSend(anyString(), eq("1"));
+        }
+
+        @Test
+        @DisplayName("다른 서버의 invalidate 수신")
+        void test2() {
+            // given
+            channelMembershipCache.find(1L);
+
+            // when
+            channelMembershipCache.onMessage(new DefaultMessage("chat-membership-invalidation".getBytes(StandardCharsets.UTF_8),
+                    "1".getBytes(StandardCharsets.UTF_8)), null);
+            channelMembershipCache.find(1L);
+
+            // then
+            verify(chatRepository, times(2)).findChatOwnersByChannelId(1L);
+            verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+}
@@ -53,8 +53,6 @@ class ChannelRepositoryTest {
     @Autowired
     ItemRepository itemRepository;
     @Autowired
-    ChatMessageRepository chatMessageRepository;
-    @Autowired
     MessageRepository messageRepository;
     @Autowired
     ChannelRepository channelRepository;
@@ -158,24 +156,16 @@ class ChannelRepositoryTest {
 
 
             // Message 생성
-            Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).build();
-            Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).build();
+            Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).channel(channel1).build();
+            Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).channel(channel2).build();
             messageRepository.save(msg1);
             messageRepository.save(msg2);
 
 
-            // Chat - Message 연결
-            ChatMessage chatMessage1 = ChatMessage.builder().message(msg1).isRead(false).chat(chat1).build();
-            ChatMessage chatMessage2 = ChatMessage.builder().message(msg1).isRead(true).chat(chat2).build();
-            ChatMessage chatMessage3 = ChatMessage.builder().message(msg2).isRead(true).chat(chat3).build();
-            ChatMessage chatMessage4 = ChatMessage.builder().message(msg2).isRead(true).chat(chat4).build();
-            ChatMessage chatMessage5 = ChatMessage.builder().message(msg2).isRead(false).chat(chat5).build();
-
-            chatMessageRepository.save(chatMessage1);
-            chatMessageRepository.save(chatMessage2);
-            chatMessageRepository.save(chatMessage3);
-            chatMessageRepository.save(chatMessage4);
-            chatMessageRepository.save(chatMessage5);
+            // 읽음 처리 / chat1, chat5 는 읽지 않은 메세지 1개
+            chat2.readMessage(msg1.getId());
+            chat3.readMessage(msg2.getId());
+            chat4.readMessage(msg2.getId());
 
             // channel 의 lastMessage 변경
             channel1.updateLastMessage(msg1.getContent());
@@ -294,24 +284,16 @@ class ChannelRepositoryTest {
 
 
             // Message 생성
-            Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).build();
-            Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).build();
+            Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).channel(channel1).build();
+            Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).channel(channel2).build();
             messageRepository.save(msg1);
             messageRepository.save(msg2);
 
 
-            // Chat - Message 연결
-            ChatMessage chatMessage1 = ChatMessage.builder().message(msg1).isRead(false).chat(chat1).build();
-            ChatMessage chatMessage2 = ChatMessage.builder().message(msg1).isRead(true).chat(chat2).build();
-            ChatMessage chatMessage3 = ChatMessage.builder().message(msg2).isRead(true).chat(chat3).build();
-            ChatMessage chatMessage4 = ChatMessage.builder().message(msg2).isRead(true).chat(chat4).build();
-            ChatMessage chatMessage5 = ChatMessage.builder().message(msg2).isRead(false).chat(chat5).build();
-
-            chatMessageRepository.save(chatMessage1);
-            chatMessageRepository.save(chatMessage2);
-            chatMessageRepository.save(chatMessage3);
-            chatMessageRepository.save(chatMessage4);
-            chatMessageRepository.save(chatMessage5);
+            // 읽음 처리 / chat1, chat5 는 읽지 않은 메세지 1개
+            chat2.readMessage(msg1.getId());
+            chat3.readMessage(msg2.getId());
+            chat4.readMessage(msg2.getId());
 
             // channel 의 lastMessage 변경
             channel1.updateLastMessage(msg1.getContent());
@@ -0,0 +1,140 @@
+package com.example.naejango.domain.chat.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChannelSubscriberCacheTest {
+    @Mock StringRedisTemplate stringRedisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+    MeterRegistry meterRegistry;
+    ChannelSubscriberCache channelSubscriberCache;
+
+    AtomicInteger loadCount = new AtomicInteger();
+    Function<Long, Set<Long>> loader = channelId -> {
+        loadCount.incrementAndGet();
+        return Set.of(1L, 2L);
+    };
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        channelSubscriberCache = new ChannelSubscriberCache(stringRedisTemplate, listenerContainer, meterRegistry,
+                true, 100, 1000, 60_000);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.counter("chat.subscriber-cache.requests", "result", result).count();
+    }
+
+    private DefaultMessage message(String body) {
+        return new DefaultMessage("chat-subscriber-invalidation".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Find {
+        @Test
+        @DisplayName("구독자 조회 및 캐싱")
+        void test1() {
+            // when
+            Set<Long> first = channelSubscriberCache.find(1L, loader);
+            Set<Long> second = channelSubscriberCache.find(1L, loader);
+
+            // then
+            assertSame(first, second);
+            assertTrue(second.contains(1L));
+            assertFalse(second.contains(3L));
+            assertEquals(1, loadCount.get());
+            assertEquals(1, requests("hit"));
+            assertEquals(1, requests("miss"));
+        }
+
+        @Test
+        @DisplayName("invalidate 수신이 끊긴 경우 Redis 에서 직접 조회")
+        void test2() throws InterruptedException {
+            // given
+            channelSubscriberCache = new ChannelSubscriberCache(stringRedisTemplate, listenerContainer, meterRegistry,
+                    true, 100, 1000, 1);
+            Thread.sleep(5);
+
+            // when
+            channelSubscriberCache.find(1L, loader);
+            channelSubscriberCache.find(1L, loader);
+
+            // then
+            assertFalse(channelSubscriberCache.isHealthy());
+            assertEquals(2, loadCount.get());
+            assertEquals(2, requests("bypass"));
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate")
+    class Invalidate {
+        @Test
+        @DisplayName("캐시 삭제 및 다른 서버에 전파")
+        void test1() {
+            // given
+            channelSubscriberCache.find(1L, loader);
+
+            // when
+            channelSubscriberCache.invalidate(1L);
+            channelSubscriberCache.find(1L, loader);
+
+            // then
+            assertEquals(2, loadCount.get());
+            verify(stringRedisTemplate).convertAndSend("chat-subscriber-invalidation", "1");
+        }
+
+        @Test
+        @DisplayName("다른 서버의 invalidate 수신")
+        void test2() {
+            // given
+            channelSubscriberCache.find(1L, loader);
+
+            // when
+            channelSubscriberCache.onMessage(message("1"), null);
+            channelSubscriberCache.onMessage(message("heartbeat"), null);
+            channelSubscriberCache.find(1L, loader);
+
+            // then
+            assertEquals(2, loadCount.get());
+        }
+
+        @Test
+        @DisplayName("조회 중 invalidate 된 경우 캐싱하지 않음")
+        void test3() {
+            // given
+            Function<Long, Set<Long>> invalidatingLoader = channelId -> {
+                channelSubscriberCache.onMessage(message(String.valueOf(channelId)), null);
+                return loader.apply(channelId);
+            };
+
+            // when
+            channelSubscriberCache.find(1L, invalidatingLoader);
+            channelSubscriberCache.find(1L, loader);
+
+            // then
+            assertEquals(2, loadCount.get());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.naejango.domain.chat.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChannelSubscriberRegistryTest {
+    ChannelSubscriberRegistry registry = new ChannelSubscriberRegistry();
+
+    @Nested
+    @DisplayName("구독자 추가, 삭제")
+    class AddAndRemove {
+        @Test
+        @DisplayName("정렬된 snapshot 유지 및 마지막 구독자 삭제 시 채널 삭제")
+        void test1() {
+            // when
+            assertTrue(registry.add(1L, 30L));
+            assertTrue(registry.add(1L, 10L));
+            assertTrue(registry.add(1L, 20L));
+            SubscriberSnapshot snapshot = registry.snapshot(1L);
+            assertTrue(registry.remove(1L, 20L));
+            assertFalse(registry.remove(1L, 20L));
+
+            // then
+            List<Long> userIds = new ArrayList<>();
+            snapshot.forEachUserId(userIds::add);
+            assertEquals(List.of(10L, 20L, 30L), userIds);
+            assertTrue(snapshot.contains(20L));
+            assertFalse(registry.contains(1L, 20L));
+            assertTrue(registry.contains(1L, 10L));
+
+            registry.remove(1L, 10L);
+            registry.remove(1L, 30L);
+            assertEquals(0, registry.channelCount());
+            assertTrue(registry.snapshot(1L).isEmpty());
+        }
+
+        @Test
+        @DisplayName("같은 유저의 구독이 여러 개인 경우 마지막 구독 해제 시 삭제")
+        void test2() {
+            // given
+            assertTrue(registry.add(1L, 10L));
+            assertFalse(registry.add(1L, 10L));
+
+            // when, then
+            assertFalse(registry.remove(1L, 10L));
+            assertTrue(registry.contains(1L, 10L));
+            assertTrue(registry.remove(1L, 10L));
+            assertFalse(registry.contains(1L, 10L));
+            assertEquals(0, registry.channelCount());
+        }
+    }
+
+    @Nested
+    @DisplayName("동시성")
+    class Concurrency {
+        private static final int THREADS = 8;
+        private static final int CHANNELS = 4;
+        private static final int USERS_PER_THREAD = 2_000;
+        private static final int ROUNDS = 20;
+
+        @Test
+        @DisplayName("여러 스레드가 같은 채널에 구독, 구독 취소를 반복해도 구독자 유실 없음")
+        void test1() throws Exception {
+            // given
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS + 1);
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean running = new AtomicBoolean(true);
+            AtomicReference<Throwable> readerError = new AtomicReference<>();
+
+            // 읽기 스레드는 항상 정렬된 snapshot 을 봐야 합니다.
+            Future<?> reader = executor.submit(() -> {
+                while (running.get()) {
+                    for (long channelId = 0; channelId < CHANNELS; channelId++) {
+                        long[] previous = {Long.MIN_VALUE};
+                        try {
+                            registry.snapshot(channelId).forEachUserId(userId -> {
+                                if (userId <= previous[0]) throw new IllegalStateException("정렬되지 않은 snapshot");
+                                previous[0] = userId;
+                            });
+                        } catch (Throwable e) {
+                            readerError.set(e);
+                            return;
+                        }
+                    }
+                }
+            });
+
+            // 각 스레드는 자신의 userId 만 구독, 취소하며, 짝수 userId 만 구독한 상태로 끝납니다.
+            List<Future<?>> writers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                long base = (long) thread * USERS_PER_THREAD;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        for (long userId = base; userId < base + USERS_PER_THREAD; userId++) {
+                            registry.add(userId % CHANNELS, userId);
+                        }
+                        for (long userId = base; userId < base + USERS_PER_THREAD; userId++) {
+                            if (round < ROUNDS - 1 || userId % 2 == 1) registry.remove(userId % CHANNELS, userId);
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            // when
+            start.countDown();
+            for (Future<?> writer : writers) writer.get(60, TimeUnit.SECONDS);
+            running.set(false);
+            reader.get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            // then
+            assertNull(readerError.get());
+            int total = 0;
+            for (long channelId = 0; channelId < CHANNELS; channelId++) total += registry.snapshot(channelId).size();
+            assertEquals(THREADS * USERS_PER_THREAD / 2, total);
+            for (long userId = 0; userId < (long) THREADS * USERS_PER_THREAD; userId++) {
+                assertEquals(userId % 2 == 0, registry.contains(userId % CHANNELS, userId));
+            }
+        }
+    }
+}
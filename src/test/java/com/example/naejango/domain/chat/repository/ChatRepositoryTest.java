@@ -31,6 +31,7 @@ import javax.persistence.PersistenceContext;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,11 +50,11 @@ class ChatRepositoryTest {
     @Autowired
     ItemRepository itemRepository;
     @Autowired
-    ChatMessageRepository chatMessageRepository;
-    @Autowired
     MessageRepository messageRepository;
     @Autowired
     ChannelRepository channelRepository;
+    @Autowired
+    ChatInboxRepository chatInboxRepository;
     @PersistenceContext
     EntityManager em;
 
@@ -149,30 +150,25 @@ class ChatRepositoryTest {
 
 
         // Message 생성
-        Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).build();
-        Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).build();
+        Message msg1 = Message.builder().content("메세지1").senderId(testUser2.getId()).channel(channel1).build();
+        Message msg2 = Message.builder().content("메세지2").senderId(testUser2.getId()).channel(channel2).build();
         messageRepository.save(msg1);
         messageRepository.save(msg2);
 
 
-        // Chat - Message 연결
-        ChatMessage chatMessage1 = ChatMessage.builder().message(msg1).isRead(false).chat(chat1).build();
-        ChatMessage chatMessage2 = ChatMessage.builder().message(msg1).isRead(true).chat(chat2).build();
-        ChatMessage chatMessage3 = ChatMessage.builder().message(msg2).isRead(true).chat(chat3).build();
-        ChatMessage chatMessage4 = ChatMessage.builder().message(msg2).isRead(true).chat(chat4).build();
-        ChatMessage chatMessage5 = ChatMessage.builder().message(msg2).isRead(false).chat(chat5).build();
-
-        chatMessageRepository.save(chatMessage1);
-        chatMessageRepository.save(chatMessage2);
-        chatMessageRepository.save(chatMessage3);
-        chatMessageRepository.save(chatMessage4);
-        chatMessageRepository.save(chatMessage5);
+        // 읽음 처리 / chat1, chat5 는 읽지 않은 메세지 1개
+        chat2.readMessage(msg1.getId());
+        chat3.readMessage(msg2.getId());
+        chat4.readMessage(msg2.getId());
 
         channel1.updateLastMessage(msg1.getContent());
         em.flush();
 
         channel2.updateLastMessage(msg2.getContent());
         em.flush();
+
+        // 채팅 목록(inbox) 계산
+        chatInboxRepository.rebuild(0L, Long.MAX_VALUE);
     }
 
     @Nested
@@ -242,6 +238,60 @@ class ChatRepositoryTest {
             ChatInfoDto chatInfoDto = result.get(0);
             assertEquals("메세지2", chatInfoDto.getLastMessage());
         }
+
+        @Test
+        @DisplayName("조회 성공 : 안 읽은 메세지 수 확인")
+        void test3() {
+            // given
+            User user1 = userRepository.findByUserKey("test_1").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            User user2 = userRepository.findByUserKey("test_2").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+            // when
+            List<ChatInfoDto> result1 = chatRepository.findChatByOwnerIdOrderByLastChat(user1.getId(), 0, 5);
+            List<ChatInfoDto> result2 = chatRepository.findChatByOwnerIdOrderByLastChat(user2.getId(), 0, 5);
+
+            // then
+            assertEquals(1, result1.get(0).getUnreadCount());
+            assertTrue(result2.stream().allMatch(chatInfoDto -> chatInfoDto.getUnreadCount() == 0));
+        }
+    }
+
+    @Nested
+    @DisplayName("채팅 목록(inbox) 갱신")
+    class chatInbox {
+        @Test
+        @DisplayName("메세지 발행 시 안 읽은 메세지 수 증가, 보고 있는 유저는 읽음 처리")
+        void test1() {
+            // given
+            User user3 = userRepository.findByUserKey("test_3").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            User user4 = userRepository.findByUserKey("test_4").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+            // when
+            chatInboxRepository.publishMessages(channel2.getId(), 2, "새 메세지", LocalDateTime.now());
+            chatInboxRepository.readMessageByChannelIdAndOwnerIds(channel2.getId(), Set.of(user3.getId()));
+            em.clear();
+
+            // then
+            ChatInfoDto user3Chat = chatRepository.findChatByOwnerIdOrderByLastChat(user3.getId(), 0, 5).get(0);
+            ChatInfoDto user4Chat = chatRepository.findChatByOwnerIdOrderByLastChat(user4.getId(), 0, 5).get(0);
+            assertEquals(0, user3Chat.getUnreadCount());
+            assertEquals(3, user4Chat.getUnreadCount());
+            assertEquals("새 메세지", user4Chat.getLastMessage());
+        }
+
+        @Test
+        @DisplayName("Chat 삭제 시 목록에서 제외")
+        void test2() {
+            // given
+            User user2 = userRepository.findByUserKey("test_2").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            Chat chat = chatRepository.findChatByChannelIdAndOwnerId(channel2.getId(), user2.getId()).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
+
+            // when
+            chatInboxRepository.deleteByChatId(chat.getId());
+
+            // then
+            assertEquals(1, chatRepository.findChatByOwnerIdOrderByLastChat(user2.getId(), 0, 5).size());
+        }
     }
 
     @Nested
@@ -0,0 +1,110 @@
+package com.example.naejango.domain.chat.repository;
+
+import com.example.naejango.domain.chat.domain.*;
+import com.example.naejango.domain.user.domain.Role;
+import com.example.naejango.domain.user.domain.User;
+import com.example.naejango.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채널 메세지 수 별로 offset 페이징(findRecentMessages) 과 커서 페이징(findMessagesBefore) 의
+ * 페이지 당 조회 시간을 측정합니다. 앞쪽, 중간, 마지막 페이지를 각각 측정합니다.
+ * offset 페이징은 뒤로 갈수록 건너뛰는 row 와 count 쿼리 때문에 느려지고, 커서 페이징은 위치와 무관해야 합니다.
+ * ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class MessagePagingBenchmarkTest {
+    @Autowired MessageRepository messageRepository;
+    @Autowired ChannelRepository channelRepository;
+    @Autowired ChatRepository chatRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    private static final int[] MESSAGE_COUNTS = {10_000, 100_000};
+    private static final int PAGE_SIZE = 25;
+    private static final int WARM_UP = 10;
+    private static final int ITERATIONS = 50;
+
+    private final List<Channel> channels = new ArrayList<>();
+    private User user;
+
+    @BeforeEach
+    void setup() {
+        user = userRepository.save(User.builder().role(Role.USER).userKey("bench_" + UUID.randomUUID()).password("").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        transactionTemplate.execute(status -> {
+            channels.forEach(channel -> {
+                messageRepository.deleteMessagesByChannelId(channel.getId());
+                chatRepository.deleteAll(chatRepository.findByChannelId(channel.getId()));
+                channelRepository.deleteById(channel.getId());
+            });
+            return null;
+        });
+        userRepository.delete(user);
+    }
+
+    @Test
+    @DisplayName("채널 메세지 수별 offset / 커서 페이지 조회 시간")
+    void pagingPerPage() {
+        for (int count : MESSAGE_COUNTS) {
+            Chat chat = createChat(count);
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT message_id FROM message WHERE channel_id = ? ORDER BY message_id DESC",
+                    Long.class, chat.getChannel().getId());
+            int lastPage = count / PAGE_SIZE - 1;
+
+            for (int page : new int[]{0, lastPage / 2, lastPage}) {
+                // 커서 페이징은 직전 페이지의 마지막 메세지 id 를 커서로 사용합니다.
+                long cursor = page == 0 ? Long.MAX_VALUE : ids.get(page * PAGE_SIZE - 1);
+
+                double offset = measure(() -> transactionTemplate.execute(status ->
+                        messageRepository.findRecentMessages(chat.getId(), PageRequest.of(page, PAGE_SIZE))));
+                double keyset = measure(() -> transactionTemplate.execute(status ->
+                        messageRepository.findMessagesBefore(chat.getId(), cursor, PageRequest.ofSize(PAGE_SIZE))));
+
+                log.info("messages={} page={} offset={} ms keyset={} ms",
+                        count, page, String.format("%.3f", offset), String.format("%.3f", keyset));
+            }
+        }
+    }
+
+    private Chat createChat(int messageCount) {
+        Channel channel = channelRepository.save(PrivateChannel.builder().channelType(ChannelType.PRIVATE).isClosed(false).build());
+        channels.add(channel);
+        Chat chat = chatRepository.save(Chat.builder().owner(user).channel(channel).title("benchmark").build());
+
+        // 메세지는 JPA 를 거치지 않고 한 번에 넣습니다.
+        jdbcTemplate.update("INSERT INTO message (message_type, sender_id, content, channel_id, created_date, last_modified_date) " +
+                        "SELECT ?, ?, 'benchmark ' || n, ?, now(), now() FROM generate_series(1, ?) n",
+                MessageType.CHAT.ordinal(), user.getId(), channel.getId(), messageCount);
+        jdbcTemplate.execute("ANALYZE message");
+        return chat;
+    }
+
+    private double measure(Runnable task) {
+        for (int i = 0; i < WARM_UP; i++) task.run();
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) task.run();
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
@@ -37,9 +37,9 @@ class MessageRepositoryTest {
     @Autowired
     MessageRepository messageRepository;
     @Autowired
-    ChatRepository chatRepository;
+    MessageArchiveRepository messageArchiveRepository;
     @Autowired
-    ChatMessageRepository chatMessageRepository;
+    ChatRepository chatRepository;
     @Autowired
     ChannelRepository channelRepository;
     @Autowired
@@ -131,24 +131,9 @@ class MessageRepositoryTest {
         messageRepository.save(msg3);
         messageRepository.save(msg4);
 
-        // Chat - Message 연결
-        ChatMessage chatMessage1 = ChatMessage.builder().message(msg1).isRead(true).chat(chat1).build();
-        ChatMessage chatMessage2 = ChatMessage.builder().message(msg2).isRead(true).chat(chat1).build();
-        ChatMessage chatMessage3 = ChatMessage.builder().message(msg3).isRead(true).chat(chat1).build();
-        ChatMessage chatMessage4 = ChatMessage.builder().message(msg4).isRead(true).chat(chat1).build();
-        ChatMessage chatMessage5 = ChatMessage.builder().message(msg1).isRead(true).chat(chat2).build();
-        ChatMessage chatMessage6 = ChatMessage.builder().message(msg2).isRead(true).chat(chat2).build();
-        ChatMessage chatMessage7 = ChatMessage.builder().message(msg3).isRead(true).chat(chat2).build();
-        ChatMessage chatMessage8 = ChatMessage.builder().message(msg4).isRead(true).chat(chat2).build();
-
-        chatMessageRepository.save(chatMessage1);
-        chatMessageRepository.save(chatMessage2);
-        chatMessageRepository.save(chatMessage3);
-        chatMessageRepository.save(chatMessage4);
-        chatMessageRepository.save(chatMessage5);
-        chatMessageRepository.save(chatMessage6);
-        chatMessageRepository.save(chatMessage7);
-        chatMessageRepository.save(chatMessage8);
+        // 읽음 처리
+        chat1.readMessage(msg4.getId());
+        chat2.readMessage(msg4.getId());
 
         channel1.updateLastMessage(msg1.getContent());
         channel2.updateLastMessage(msg2.getContent());
@@ -176,6 +161,52 @@ class MessageRepositoryTest {
         }
     }
 
+    @Nested
+    class findMessagesBefore {
+        @Test
+        @DisplayName("커서 이전 메세지 조회 성공")
+        void test1() {
+            // given
+            User testUser1 = userRepository.findByUserKey("test_1").orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+            Chat chat = chatRepository.findChatByChannelIdAndOwnerId(channel1.getId(), testUser1.getId()).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
+
+            // when
+            List<Message> firstPage = messageRepository.findMessagesBefore(chat.getId(), Long.MAX_VALUE, Pageable.ofSize(3));
+            List<Message> secondPage = messageRepository.findMessagesBefore(chat.getId(), firstPage.get(2).getId(), Pageable.ofSize(3));
+
+            // then
+            assertEquals(3, firstPage.size());
+            assertEquals("네번째 메세지.", firstPage.get(0).getContent());
+            assertEquals(1, secondPage.size());
+            assertEquals("첫번째 메세지.", secondPage.get(0).getContent());
+        }
+    }
+
+    @Nested
+    class archiveChannelMessages {
+        @Test
+        @Transactional
+        @DisplayName("오래된 메세지부터 보관 영역으로 이동")
+        void test1() {
+            // given
+            Chat chat = chatRepository.findChatByChannelIdAndOwnerId(channel1.getId(), testUser1.getId()).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
+
+            // when
+            int moved = messageArchiveRepository.archiveChannelMessages(channel1.getId(), 3);
+            em.flush(); em.clear();
+
+            // then
+            assertEquals(3, moved);
+            List<Message> hot = messageRepository.findMessagesBefore(chat.getId(), Long.MAX_VALUE, Pageable.ofSize(10));
+            assertEquals(1, hot.size());
+            assertEquals("네번째 메세지.", hot.get(0).getContent());
+            List<MessageArchive> archived = messageArchiveRepository.findMessagesBefore(chat.getId(), hot.get(0).getId(), Pageable.ofSize(10));
+            assertEquals(3, archived.size());
+            assertEquals("세번째 메세지.", archived.get(0).getContent());
+            assertEquals(2, messageArchiveRepository.findRecentMessages(chat.getId(), 1, 10).size());
+        }
+    }
+
     @Nested
     class deleteMessagesByChannelId {
         @Test
@@ -187,9 +218,6 @@ class MessageRepositoryTest {
             Chat chat = chatRepository.findChatByChannelIdAndOwnerId(channel2.getId(), testUser2.getId()).orElseThrow(() -> new CustomException(ErrorCode.CHAT_NOT_FOUND));
 
             // when
-            List<Chat> chatList = chatRepository.findByChannelId(channel2.getId());
-            chatList.forEach(cht -> chatMessageRepository.deleteChatMessageByChat(cht.getId()));
-            em.flush(); em.clear();
             messageRepository.deleteMessagesByChannelId(channel2.getId());
             em.flush(); em.clear();
             Page<Message> result = messageRepository.findRecentMessages(chat.getId(), Pageable.ofSize(5));
@@ -0,0 +1,108 @@
+package com.example.naejango.domain.notification.application;
+
+import com.example.naejango.domain.notification.domain.NotificationType;
+import com.example.naejango.domain.notification.dto.NotificationPublishDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatNotificationCoalescerTest {
+    @Mock NotificationService notificationService;
+    SimpleMeterRegistry meterRegistry;
+    ChatNotificationCoalescer coalescer;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new ChatNotificationCoalescer(notificationService, meterRegistry, 100L);
+    }
+
+    @AfterEach
+    void cleanup() {
+        coalescer.shutdown();
+    }
+
+    private NotificationPublishDto chat(Long receiverId, Long channelId, String content) {
+        return new NotificationPublishDto(receiverId, NotificationType.CHAT, content, String.valueOf(channelId));
+    }
+
+    @Test
+    @DisplayName("같은 수신자, 채널의 알림은 하나로 합쳐서 발송")
+    void test1() {
+        // when
+        for (int i = 1; i <= 5; i++) coalescer.add(chat(1L, 10L, "메세지" + i));
+        coalescer.add(chat(2L, 10L, "메세지"));
+
+        // then
+        verify(notificationService, timeout(1000)).send(1L, NotificationType.CHAT, "새로운 메세지 5개 : 메세지5", "10");
+        verify(notificationService, timeout(1000)).send(2L, NotificationType.CHAT, "메세지", "10");
+        verify(notificationService, after(300).times(2)).send(any(), any(), any(), any());
+        assertEquals(6, meterRegistry.counter("notification.chat.received").count());
+        assertEquals(2, meterRegistry.counter("notification.chat.sent").count());
+        assertEquals(4, meterRegistry.counter("notification.chat.coalesced").count());
+        assertEquals(0, coalescer.pendingCount());
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 알림 발송")
+    void test2() {
+        // given
+        ChatNotificationCoalescer longWindow = new ChatNotificationCoalescer(notificationService, meterRegistry, 60_000L);
+        longWindow.add(chat(1L, 10L, "메세지1"));
+        longWindow.add(chat(1L, 10L, "메세지2"));
+
+        // when
+        longWindow.shutdown();
+
+        // then
+        verify(notificationService).send(1L, NotificationType.CHAT, "새로운 메세지 2개 : 메세지2", "10");
+        assertEquals(0, longWindow.pendingCount());
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 접수해도 모든 알림을 발송")
+    void test3() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int round = 0; round < 10; round++) {
+            CountDownLatch start = new CountDownLatch(1);
+            for (int i = 0; i < 8; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    coalescer.add(chat(1L, 10L, "메세지"));
+                });
+            }
+            start.countDown();
+            Thread.sleep(150);
+        }
+        executor.shutdown();
+        executor.awaitTermination(1, TimeUnit.SECONDS);
+
+        // then
+        verify(notificationService, timeout(1000).atLeastOnce()).send(any(), any(), any(), any());
+        Thread.sleep(300);
+        assertEquals(0, coalescer.pendingCount());
+        assertEquals(80, meterRegistry.counter("notification.chat.sent").count()
+                + meterRegistry.counter("notification.chat.coalesced").count());
+    }
+}
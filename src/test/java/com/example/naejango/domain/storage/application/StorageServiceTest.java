@@ -4,7 +4,6 @@ import com.example.naejango.domain.account.domain.Account;
 import com.example.naejango.domain.account.repository.AccountRepository;
 import com.example.naejango.domain.chat.domain.*;
 import com.example.naejango.domain.chat.repository.ChannelRepository;
-import com.example.naejango.domain.chat.repository.ChatMessageRepository;
 import com.example.naejango.domain.chat.repository.ChatRepository;
 import com.example.naejango.domain.chat.repository.MessageRepository;
 import com.example.naejango.domain.follow.domain.Follow;
@@ -53,7 +52,6 @@ class StorageServiceTest {
     @Autowired ChannelRepository channelRepository;
     @Autowired ChatRepository chatRepository;
     @Autowired MessageRepository messageRepository;
-    @Autowired ChatMessageRepository chatMessageRepository;
     @Autowired FollowRepository followRepository;
     @Autowired RefreshTokenRepository refreshTokenRepository;
     @Autowired JwtValidator jwtValidator;
@@ -67,7 +65,6 @@ class StorageServiceTest {
     Channel groupChannel, privateChannel;
     Chat chat1, chat2, chat3, chat4;
     Message message;
-    ChatMessage chatMessage1, chatMessage2;
     String refreshToken;
 
     @BeforeEach
@@ -113,10 +110,10 @@ class StorageServiceTest {
         message = Message.builder().channel(groupChannel).senderId(user.getId()).messageType(MessageType.CHAT).content("안녕하세요").build();
         messageRepository.save(message);
 
-        chatMessage1 = ChatMessage.builder().message(message).chat(chat1).isRead(true).build();
-        chatMessage2 = ChatMessage.builder().message(message).chat(chat2).isRead(true).build();
-        chatMessageRepository.save(chatMessage1);
-        chatMessageRepository.save(chatMessage2);
+        chat1.readMessage(message.getId());
+        chat2.readMessage(message.getId());
+        chatRepository.save(chat1);
+        chatRepository.save(chat2);
 
         refreshToken = jwtGenerator.generateRefreshToken(new JwtPayload(user.getId(), user.getRole()));
         refreshTokenRepository.saveRefreshToken(user.getId(), refreshToken);
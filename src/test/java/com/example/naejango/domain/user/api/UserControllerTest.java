@@ -349,7 +349,7 @@ class UserControllerTest extends RestDocsSupportTest {
                                     "Storage: 삭제 (연관 Item, Transaction, GroupChannel 처리)\n\n" +
                                     "review: 그냥 두기\n\n" +
                                     "follow, wish: 모두 삭제 처리\n\n" +
-                                    "chat: 모두 삭제 처리 (chatMessage 도 삭제됨)")
+                                    "chat: 모두 삭제 처리")
                             .responseFields(
                                     fieldWithPath("message").description("결과 메세지"),
                                     fieldWithPath("result").description("삭제된 회원 아이디"))
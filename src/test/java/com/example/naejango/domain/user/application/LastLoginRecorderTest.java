@@ -0,0 +1,90 @@
+package com.example.naejango.domain.user.application;
+
+import com.example.naejango.domain.user.repository.UserProfileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LastLoginRecorderTest {
+    @Mock UserProfileRepository userProfileRepository;
+    @Mock TransactionTemplate transactionTemplate;
+    LastLoginRecorder recorder;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setup() {
+        recorder = new LastLoginRecorder(userProfileRepository, transactionTemplate, 60_000L, 1000L, 100);
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("writeInterval 동안 회원 당 한 번만 반영")
+    void test1() {
+        // given
+        for (int i = 0; i < 10; i++) {
+            recorder.record(1L);
+            recorder.record(2L);
+        }
+
+        // when
+        int flushed = recorder.flush();
+        recorder.record(1L);
+        int flushedAgain = recorder.flush();
+
+        // then
+        assertEquals(2, flushed);
+        assertEquals(0, flushedAgain);
+        verify(userProfileRepository, times(1)).updateLastLogin(eq(1L), any());
+        verify(userProfileRepository, times(1)).updateLastLogin(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("반영 실패 시 다음 주기에 다시 반영")
+    void test2() {
+        // given
+        recorder.record(1L);
+        BDDMockito.given(userProfileRepository.updateLastLogin(eq(1L), any()))
+                .willThrow(new IllegalStateException()).willReturn(1);
+
+        // when
+        assertThrows(IllegalStateException.class, () -> recorder.flush());
+        int flushed = recorder.flush();
+
+        // then
+        assertEquals(1, flushed);
+        verify(userProfileRepository, times(2)).updateLastLogin(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("탈퇴한 회원의 로그인 시각은 반영하지 않음")
+    void test3() {
+        // given
+        recorder.record(1L);
+
+        // when
+        recorder.forget(1L);
+        int flushed = recorder.flush();
+
+        // then
+        assertEquals(0, flushed);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.naejango.domain.user.repository;
+
+import com.example.naejango.domain.user.domain.Role;
+import com.example.naejango.domain.user.dto.AuthenticatedUserDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuthenticatedUserCacheTest {
+    @Mock UserRepository userRepository;
+    @Mock StringRedisTemplate stringRedisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+    AuthenticatedUserCache authenticatedUserCache;
+
+    @BeforeEach
+    void setup() {
+        authenticatedUserCache = new AuthenticatedUserCache(userRepository, stringRedisTemplate, listenerContainer, 100);
+        lenient().when(userRepository.findAuthenticatedUserById(1L))
+                .thenReturn(Optional.of(new AuthenticatedUserDto(1L, Role.USER, "닉네임", "imgUrl")));
+    }
+
+    @Nested
+    @DisplayName("조회")
+    class Find {
+        @Test
+        @DisplayName("회원 정보 조회 및 캐싱")
+        void test1() {
+            // when
+            AuthenticatedUserDto first = authenticatedUserCache.find(1L).orElseThrow();
+            AuthenticatedUserDto second = authenticatedUserCache.find(1L).orElseThrow();
+
+            // then
+            assertSame(first, second);
+            assertEquals(Role.USER, first.getRole());
+            assertEquals("닉네임", first.getNickname());
+            verify(userRepository, times(1)).findAuthenticatedUserById(1L);
+        }
+
+        @Test
+        @DisplayName("없는 회원은 캐싱하지 않음")
+        void test2() {
+            // given
+            BDDMockito.given(userRepository.findAuthenticatedUserById(2L)).willReturn(Optional.empty());
+
+            // when
+            Optional<AuthenticatedUserDto> result = authenticatedUserCache.find(2L);
+            authenticatedUserCache.find(2L);
+
+            // then
+            assertTrue(result.isEmpty());
+            verify(userRepository, times(2)).findAuthenticatedUserById(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("invalidate")
+    class Invalidate {
+        @Test
+        @DisplayName("invalidate 후 다시 조회하고 다른 서버로 전파")
+        void test1() {
+            // given
+            authenticatedUserCache.find(1L);
+
+            // when
+            authenticatedUserCache.invalidate(1L);
+            authenticatedUserCache.find(1L);
+
+            // then
+            verify(userRepository, times(2)).findAuthenticatedUserById(1L);
+            verify(stringRedisTemplate).convertAndSend(anyString(), eq("1"));
+        }
+
+        @Test
+        @DisplayName("다른 서버의 invalidate 수신")
+        void test2() {
+            // given
+            authenticatedUserCache.find(1L);
+
+            // when
+            authenticatedUserCache.onMessage(new DefaultMessage("user-authentication-invalidation".getBytes(StandardCharsets.UTF_8),
+                    "1".getBytes(StandardCharsets.UTF_8)), null);
+            authenticatedUserCache.find(1L);
+
+            // then
+            verify(userRepository, times(2)).findAuthenticatedUserById(1L);
+            verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+        }
+    }
+}
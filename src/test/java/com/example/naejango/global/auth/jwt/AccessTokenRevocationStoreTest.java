@@ -0,0 +1,147 @@
+package com.example.naejango.global.auth.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenRevocationStoreTest {
+    @Mock StringRedisTemplate stringRedisTemplate;
+    @Mock RedisMessageListenerContainer listenerContainer;
+    @Mock ValueOperations<String, String> valueOperations;
+    AccessTokenRevocationStore store;
+
+    @BeforeEach
+    void setup() {
+        store = new AccessTokenRevocationStore(stringRedisTemplate, listenerContainer, new SimpleMeterRegistry(),
+                1000, 0.001, 60_000L);
+    }
+
+    private static String keyOf(String token) {
+        return "Revoked_Access_Token:" + TokenDigest.encode(TokenDigest.sha256(token));
+    }
+
+    @Test
+    @DisplayName("폐기한 토큰은 만료 시각까지 저장하고, 폐기되지 않은 토큰은 Redis 를 조회하지 않음")
+    void test1() {
+        // given
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        BDDMockito.given(stringRedisTemplate.hasKey(keyOf("revoked"))).willReturn(true);
+
+        // when
+        store.revoke("revoked", System.currentTimeMillis() + 60_000);
+
+        // then
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq(keyOf("revoked")), anyString(), ttl.capture());
+        assertTrue(ttl.getValue().toMillis() > 0 && ttl.getValue().toMillis() <= 60_000);
+        verify(stringRedisTemplate).convertAndSend(anyString(), anyString());
+        assertTrue(store.isRevoked("revoked"));
+        for (int i = 0; i < 100; i++) store.isRevoked("token" + i);
+        verify(stringRedisTemplate, atMost(2)).hasKey(anyString());
+    }
+
+    @Test
+    @DisplayName("다른 서버에서 폐기한 토큰을 Redis 에서 확인")
+    void test2() {
+        // given
+        String digest = TokenDigest.encode(TokenDigest.sha256("revoked"));
+        BDDMockito.given(stringRedisTemplate.hasKey(keyOf("revoked"))).willReturn(true, false);
+
+        // when
+        store.onMessage(new DefaultMessage("access-token-revocation".getBytes(StandardCharsets.UTF_8),
+                digest.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertTrue(store.isRevoked("revoked"));
+        // 만료되어 Redis 에서 삭제된 경우
+        assertFalse(store.isRevoked("revoked"));
+    }
+
+    @Test
+    @DisplayName("Redis 의 폐기 목록으로 Bloom filter 를 다시 만듦")
+    @SuppressWarnings("unchecked")
+    void test3() {
+        // given
+        Cursor<String> cursor = mock(Cursor.class);
+        BDDMockito.given(cursor.hasNext()).willReturn(true, false);
+        BDDMockito.given(cursor.next()).willReturn(keyOf("revoked"));
+        BDDMockito.given(stringRedisTemplate.scan(any())).willReturn(cursor);
+        BDDMockito.given(stringRedisTemplate.hasKey(keyOf("revoked"))).willReturn(true);
+
+        // when
+        int count = store.rebuild();
+
+        // then
+        assertEquals(1, count);
+        assertTrue(store.isRevoked("revoked"));
+        verify(cursor).close();
+    }
+
+    @Test
+    @DisplayName("Bloom filter 를 다시 만드는 중에 폐기한 토큰도 누락되지 않음")
+    @SuppressWarnings("unchecked")
+    void test4() throws InterruptedException {
+        // given
+        Set<String> revokedKeys = ConcurrentHashMap.newKeySet();
+        BDDMockito.given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        doAnswer(invocation -> revokedKeys.add(invocation.getArgument(0)))
+                .when(valueOperations).set(anyString(), anyString(), any(Duration.class));
+        // SCAN 은 시작 시점의 폐기 목록만 반환합니다.
+        BDDMockito.given(stringRedisTemplate.scan(any())).willAnswer(invocation -> {
+            Iterator<String> keys = List.copyOf(revokedKeys).iterator();
+            Cursor<String> cursor = mock(Cursor.class, withSettings().lenient());
+            BDDMockito.given(cursor.hasNext()).willAnswer(hasNext -> keys.hasNext());
+            BDDMockito.given(cursor.next()).willAnswer(next -> keys.next());
+            return cursor;
+        });
+        BDDMockito.given(stringRedisTemplate.hasKey(anyString())).willReturn(true);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(3);
+
+        // when
+        for (int thread = 0; thread < 3; thread++) {
+            int offset = thread * 1000;
+            executor.execute(() -> {
+                for (int i = 0; i < 300; i++) store.revoke("token" + (offset + i), System.currentTimeMillis() + 60_000);
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) store.rebuild();
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        // then
+        for (int thread = 0; thread < 3; thread++) {
+            for (int i = 0; i < 300; i++) assertTrue(store.isRevoked("token" + (thread * 1000 + i)));
+        }
+    }
+}
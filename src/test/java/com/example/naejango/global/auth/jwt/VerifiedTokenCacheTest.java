@@ -0,0 +1,92 @@
+package com.example.naejango.global.auth.jwt;
+
+import com.example.naejango.domain.user.domain.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedTokenCacheTest {
+    MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    JwtPayload payload = JwtPayload.builder().userId(1L).role(Role.COMMON).build();
+
+    private double requests(String result) {
+        return meterRegistry.counter("jwt.token-cache.requests", "result", result).count();
+    }
+
+    @Test
+    @DisplayName("만료 시각 전까지 캐싱")
+    void test1() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 10);
+        cache.put("token", payload, System.currentTimeMillis() + 60_000);
+
+        // when
+        Optional<JwtPayload> result = cache.find("token");
+
+        // then
+        assertSame(payload, result.orElseThrow());
+        assertTrue(cache.find("other").isEmpty());
+        assertEquals(1, requests("hit"));
+        assertEquals(1, requests("miss"));
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회되지 않고 삭제")
+    void test2() throws InterruptedException {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 10);
+        cache.put("token", payload, System.currentTimeMillis() + 20);
+        Thread.sleep(30);
+
+        // when
+        Optional<JwtPayload> result = cache.find("token");
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않고, 삭제한 토큰은 조회되지 않음")
+    void test3() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 3);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+
+        // when
+        for (int i = 0; i < 10; i++) cache.put("token" + i, payload, expiresAt);
+        cache.evict("token9");
+
+        // then
+        assertTrue(cache.size() <= 3);
+        assertTrue(cache.find("token9").isEmpty());
+        assertEquals(cache.size(), meterRegistry.get("jwt.token-cache.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("가득 차면 가장 오래 사용하지 않은 토큰부터 삭제")
+    void test4() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(meterRegistry, true, 3);
+        long expiresAt = System.currentTimeMillis() + 60_000;
+        cache.put("token0", payload, expiresAt);
+        cache.put("token1", payload, expiresAt);
+        cache.put("token2", payload, expiresAt);
+        cache.find("token0");
+
+        // when
+        cache.put("token3", payload, expiresAt);
+
+        // then
+        assertEquals(3, cache.size());
+        assertTrue(cache.find("token0").isPresent());
+        assertTrue(cache.find("token1").isEmpty());
+        assertTrue(cache.find("token2").isPresent());
+        assertTrue(cache.find("token3").isPresent());
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.naejango.global.common.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InvalidatingCacheTest {
+    @Mock StringRedisTemplate stringRedisTemplate;
+    InvalidatingCache<String> cache;
+
+    @BeforeEach
+    void setup() {
+        cache = new InvalidatingCache<>("테스트 캐시", "test-invalidation", stringRedisTemplate, 3);
+    }
+
+    @AfterEach
+    void clear() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 invalidate 하면 트랜잭션 종료 후 삭제하고 전파")
+    void test1() {
+        // given
+        cache.find(1L, key -> Optional.of("value"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertEquals("value", cache.getIfPresent(1L));
+        verify(stringRedisTemplate, never()).convertAndSend(anyString(), anyString());
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertNull(cache.getIfPresent(1L));
+        verify(stringRedisTemplate).convertAndSend("test-invalidation", "1");
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘지 않고, 빈 값은 캐싱하지 않음")
+    void test2() {
+        // when
+        for (long key = 0; key < 10; key++) cache.find(key, k -> Optional.of("value" + k));
+        Optional<String> empty = cache.find(100L, key -> Optional.empty());
+
+        // then
+        assertTrue(cache.size() <= 3);
+        assertTrue(empty.isEmpty());
+        assertNull(cache.getIfPresent(100L));
+    }
+}